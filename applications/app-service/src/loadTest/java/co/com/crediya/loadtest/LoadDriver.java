@@ -0,0 +1,206 @@
+package co.com.crediya.loadtest;
+
+import co.com.crediya.loadtest.LoadTestConfig.Operation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cliente de modelo abierto: las solicitudes se programan a tasa fija sin esperar respuestas
+ * previas. Si el servicio se atrasa, las solicitudes vencidas salen en ráfaga y su espera
+ * cuenta en la latencia.
+ */
+final class LoadDriver {
+
+    static final String THREAD_PREFIX = "loadtest";
+
+    private static final String USERS = "/api/v1/usuarios";
+    private static final String JSON = HttpHeaderValues.APPLICATION_JSON.toString();
+
+    private final LoadTestConfig config;
+    private final ObjectMapper json = new ObjectMapper();
+    private final LoopResources loops;
+    private final ConnectionProvider connections;
+    private final HttpClient client;
+    private final Scheduler ticker;
+    private final Operation[] schedule;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+    private List<String> tokens = List.of();
+
+    LoadDriver(LoadTestConfig config, int port) {
+        this.config = config;
+        this.loops = LoopResources.create(THREAD_PREFIX, Math.max(1, Runtime.getRuntime().availableProcessors() / 2), true);
+        this.connections = ConnectionProvider.builder(THREAD_PREFIX)
+                .maxConnections(config.maxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.client = HttpClient.create(connections)
+                .runOn(loops)
+                .baseUrl("http://localhost:" + port)
+                .headers(h -> h.set(HttpHeaderNames.CONTENT_TYPE, JSON).set(HttpHeaderNames.ACCEPT, JSON));
+        this.ticker = Schedulers.newSingle(THREAD_PREFIX + "-ticker");
+        this.schedule = weightedSchedule(config.mix());
+    }
+
+    // Tokens de un grupo de usuarios sembrados para las operaciones autenticadas
+    void authenticate(int count) {
+        tokens = Flux.range(0, Math.min(count, config.users()))
+                .flatMap(i -> send(HttpMethod.POST, "/api/v1/login", null,
+                        body(Map.of("email", UserSeeder.email(i), "password", UserSeeder.PASSWORD)))
+                        .map(reply -> reply.json(json).path("data").path("token").asText()), 8)
+                .filter(token -> !token.isEmpty())
+                .collectList()
+                .block();
+        if (tokens.isEmpty()) {
+            throw new IllegalStateException("No fue posible obtener tokens para la prueba");
+        }
+    }
+
+    /**
+     * Ejecuta la carga durante el tiempo indicado. Las solicitudes programadas antes de
+     * measureFrom se ejecutan pero no se registran.
+     */
+    void run(Duration length, long measureFrom, LoadReport report) {
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        double intervalNanos = 1_000_000_000.0 / config.rate();
+        AtomicLong issued = new AtomicLong();
+
+        Flux.interval(Duration.ofMillis(1), ticker)
+                .onBackpressureDrop()
+                .takeWhile(tick -> System.nanoTime() < end)
+                .concatMapIterable(tick -> {
+                    long due = (long) ((System.nanoTime() - start) / intervalNanos);
+                    List<Long> arrivals = new ArrayList<>();
+                    for (long i = issued.get(); i < due; i++) {
+                        arrivals.add(start + (long) (i * intervalNanos));
+                    }
+                    issued.set(Math.max(issued.get(), due));
+                    return arrivals;
+                })
+                .flatMap(intended -> execute(intended, measureFrom, report), config.maxInFlight())
+                .then()
+                .block(length.plusMinutes(1));
+    }
+
+    void close() {
+        ticker.dispose();
+        connections.dispose();
+        loops.dispose();
+    }
+
+    private Mono<Void> execute(long intendedStart, long measureFrom, LoadReport report) {
+        Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+        return request(operation)
+                .map(Reply::status)
+                .onErrorReturn(0)
+                .doOnNext(status -> {
+                    if (intendedStart >= measureFrom) {
+                        report.record(operation, System.nanoTime() - intendedStart, status);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Reply> request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String seeded = UserSeeder.email(random.nextInt(config.users()));
+        String token = tokens.get(random.nextInt(tokens.size()));
+        return switch (operation) {
+            case LOGIN -> send(HttpMethod.POST, "/api/v1/login", null,
+                    body(Map.of("email", seeded, "password", UserSeeder.PASSWORD)));
+            case GET -> send(HttpMethod.GET, USERS + "?email=" + seeded, token, null);
+            case CREATE -> create(token);
+            case UPDATE -> send(HttpMethod.PUT, USERS + "/email/" + seeded, token, body(Map.of(
+                    "address", "Carrera " + random.nextInt(1, 200) + " #10-20",
+                    "email", seeded,
+                    "baseSalary", 1_000_000 + random.nextInt(5_000_000))));
+            case DELETE -> {
+                String email = created.poll();
+                yield email == null
+                        ? create(token)
+                        : send(HttpMethod.DELETE, USERS + "/email/" + email, token, null);
+            }
+        };
+    }
+
+    private Mono<Reply> create(String token) {
+        String email = "loadtest-" + UUID.randomUUID() + "@example.com";
+        return send(HttpMethod.POST, USERS, token, body(Map.of(
+                "name", "Carga",
+                "lastName", "Prueba",
+                "birthday", "1990-01-01",
+                "address", "Calle 123 #45-67",
+                "email", email,
+                "baseSalary", 3_000_000,
+                "identification", email.substring(9, 29),
+                "password", UserSeeder.PASSWORD,
+                "rol", "USER")))
+                .doOnNext(reply -> {
+                    if (reply.status() / 100 == 2) {
+                        created.add(email);
+                    }
+                });
+    }
+
+    private Mono<Reply> send(HttpMethod method, String uri, String token, String body) {
+        HttpClient authenticated = token == null
+                ? client
+                : client.headers(h -> h.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + token));
+        HttpClient.RequestSender sender = authenticated.request(method).uri(uri);
+        HttpClient.ResponseReceiver<?> receiver = body == null
+                ? sender
+                : sender.send(ByteBufFlux.fromString(Mono.just(body)));
+        return receiver.responseSingle((response, content) -> content.asString()
+                        .defaultIfEmpty("")
+                        .map(text -> new Reply(response.status().code(), text)));
+    }
+
+    private String body(Map<String, Object> value) {
+        try {
+            return json.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        return slots.toArray(Operation[]::new);
+    }
+
+    record Reply(int status, String body) {
+        JsonNode json(ObjectMapper mapper) {
+            try {
+                return mapper.readTree(body);
+            } catch (Exception e) {
+                return mapper.missingNode();
+            }
+        }
+    }
+}
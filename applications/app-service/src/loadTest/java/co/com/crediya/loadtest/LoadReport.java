@@ -0,0 +1,113 @@
+package co.com.crediya.loadtest;
+
+import co.com.crediya.loadtest.LoadTestConfig.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias por operación en microsegundos, medidas desde el instante en que la solicitud
+ * debía salir según la tasa (no desde que salió), para no ocultar la espera en cola.
+ */
+final class LoadReport {
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    LoadReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, int status) {
+        latencies.get(operation).recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            errors.get(operation).increment();
+        }
+    }
+
+    long completed() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    Map<String, Object> summary(LoadTestConfig config, double seconds, long appCpuNanos, long driverCpuNanos) {
+        Histogram all = new Histogram(3);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        latencies.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            all.add(histogram);
+            operations.put(operation.name().toLowerCase(), stats(histogram, errors.get(operation).sum()));
+        });
+        long completed = all.getTotalCount();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("cores", Runtime.getRuntime().availableProcessors());
+        summary.put("targetRate", config.rate());
+        summary.put("measuredSeconds", seconds);
+        summary.put("completed", completed);
+        summary.put("throughput", completed / seconds);
+        summary.put("appCpuMicrosPerRequest", completed == 0 ? 0 : appCpuNanos / 1_000.0 / completed);
+        summary.put("driverCpuMicrosPerRequest", completed == 0 ? 0 : driverCpuNanos / 1_000.0 / completed);
+        summary.put("all", stats(all, errors.values().stream().mapToLong(LongAdder::sum).sum()));
+        summary.put("operations", operations);
+        Map<String, Long> codes = new LinkedHashMap<>();
+        statuses.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(e -> codes.put(String.valueOf(e.getKey()), e.getValue().sum()));
+        summary.put("statuses", codes);
+        return summary;
+    }
+
+    static void print(Map<String, Object> summary) {
+        System.out.printf("%nnúcleos=%s  tasa objetivo=%s/s  throughput=%.1f/s  completadas=%s  ventana=%.1fs%n",
+                summary.get("cores"), summary.get("targetRate"), summary.get("throughput"),
+                summary.get("completed"), summary.get("measuredSeconds"));
+        System.out.printf("CPU por request: aplicación=%.1fµs  cliente=%.1fµs%n",
+                summary.get("appCpuMicrosPerRequest"), summary.get("driverCpuMicrosPerRequest"));
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s%n", "op", "count", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        printRow("all", asMap(summary.get("all")));
+        asMap(summary.get("operations")).forEach((name, stats) -> printRow(name, asMap(stats)));
+        System.out.println("status: " + summary.get("statuses"));
+    }
+
+    static void write(Map<String, Object> summary, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary);
+    }
+
+    private static Map<String, Object> stats(Histogram histogram, long errorCount) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", histogram.getTotalCount());
+        stats.put("errors", errorCount);
+        stats.put("p50Ms", histogram.getValueAtPercentile(50) / 1_000.0);
+        stats.put("p99Ms", histogram.getValueAtPercentile(99) / 1_000.0);
+        stats.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1_000.0);
+        stats.put("maxMs", histogram.getMaxValue() / 1_000.0);
+        return stats;
+    }
+
+    private static void printRow(String name, Map<String, Object> stats) {
+        System.out.printf("%-8s %10s %8s %10.2f %10.2f %10.2f %10.2f%n", name, stats.get("count"), stats.get("errors"),
+                stats.get("p50Ms"), stats.get("p99Ms"), stats.get("p999Ms"), stats.get("maxMs"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+}
@@ -0,0 +1,53 @@
+package co.com.crediya.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parámetros de la prueba, leídos de las propiedades de sistema loadtest.* que la tarea
+ * Gradle copia de -Ploadtest.*.
+ */
+record LoadTestConfig(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int users,
+        int maxInFlight,
+        Map<Operation, Integer> mix
+) {
+    private static final String DEFAULT_MIX = "login:30,get:50,create:10,update:5,delete:5";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.parseInt(property("rate", "200")),
+                DurationStyle.detectAndParse(property("warmup", "15s")),
+                DurationStyle.detectAndParse(property("duration", "60s")),
+                Integer.parseInt(property("users", "10000")),
+                Integer.parseInt(property("maxInFlight", "4096")),
+                parseMix(property("mix", DEFAULT_MIX)));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    enum Operation {
+        LOGIN,
+        GET,
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+}
@@ -0,0 +1,116 @@
+package co.com.crediya.loadtest;
+
+import co.com.crediya.MainApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Levanta MainApplication contra un Postgres embebido (las migraciones Flyway crean el
+ * esquema), siembra usuarios y ejecuta la carga mixta. El reporte queda en consola y en
+ * build/results/loadtest/report.json.
+ */
+public final class LoadTestRunner {
+
+    private static final int AUTHENTICATED_USERS = 200;
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = start(postgres)) {
+            UserSeeder.seed(postgres.getPostgresDatabase(), config.users());
+            int port = ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+
+            LoadDriver driver = new LoadDriver(config, port);
+            try {
+                driver.authenticate(AUTHENTICATED_USERS);
+                run(config, driver);
+            } finally {
+                driver.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestConfig config, LoadDriver driver) throws Exception {
+        LoadReport report = new LoadReport();
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        long measureFrom = System.nanoTime() + config.warmup().toNanos();
+        // La CPU se toma al terminar el calentamiento; la del cliente se descuenta por nombre de hilo
+        long[] cpuAtMeasure = new long[2];
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            sleepUntil(measureFrom);
+            cpuAtMeasure[0] = os.getProcessCpuTime();
+            cpuAtMeasure[1] = driverCpuTime();
+        });
+
+        driver.run(config.warmup().plus(config.duration()), measureFrom, report);
+        sampler.join();
+
+        long appCpu = os.getProcessCpuTime() - cpuAtMeasure[0];
+        long driverCpu = driverCpuTime() - cpuAtMeasure[1];
+        double seconds = (System.nanoTime() - measureFrom) / 1_000_000_000.0;
+
+        Map<String, Object> summary = report.summary(config, seconds, appCpu - driverCpu, driverCpu);
+        LoadReport.print(summary);
+        LoadReport.write(summary, Path.of("build", "results", "loadtest", "report.json"));
+    }
+
+    private static ConfigurableApplicationContext start(EmbeddedPostgres postgres) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("adapters.r2dbc.host", "localhost");
+        properties.put("adapters.r2dbc.port", postgres.getPort());
+        properties.put("adapters.r2dbc.database", "postgres");
+        properties.put("adapters.r2dbc.schema", "public");
+        properties.put("adapters.r2dbc.username", "postgres");
+        properties.put("adapters.r2dbc.password", "postgres");
+        properties.put("security.jwt.secret", UUID.randomUUID() + "-" + UUID.randomUUID());
+        // Los tokens obtenidos al inicio deben durar toda la prueba
+        properties.put("security.jwt.expiration-minutes", 120);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.r2dbc", "WARN");
+        properties.put("logging.level.co.com.crediya", "WARN");
+
+        // Como argumentos de línea de comandos para que prevalezcan sobre application.yaml
+        String[] args = properties.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        return SpringApplication.run(MainApplication.class, args);
+    }
+
+    // Suma la CPU de los hilos del cliente (event loops de reactor-netty y ticker)
+    private static long driverCpuTime() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return Arrays.stream(Thread.getAllStackTraces().keySet().toArray(Thread[]::new))
+                .filter(thread -> thread.getName().startsWith(LoadDriver.THREAD_PREFIX))
+                .mapToLong(thread -> Math.max(0, threads.getThreadCpuTime(thread.threadId())))
+                .sum();
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
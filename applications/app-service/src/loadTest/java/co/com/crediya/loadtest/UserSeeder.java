@@ -0,0 +1,34 @@
+package co.com.crediya.loadtest;
+
+import co.com.crediya.model.user.enums.RolName;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+
+/**
+ * Siembra usuarios ASESOR con la misma contraseña: pueden iniciar sesión y operar sobre
+ * /api/v1/usuarios. Se hashea una sola vez con el mismo costo que usa la aplicación.
+ */
+final class UserSeeder {
+
+    static final String PASSWORD = "LoadTest-Password-1";
+
+    private UserSeeder() {}
+
+    static String email(int index) {
+        return "loadtest-user-" + index + "@example.com";
+    }
+
+    static void seed(DataSource dataSource, int users) {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("""
+                INSERT INTO user_entity (name, last_name, birthday, address, email, base_salary, identification, password, rol)
+                SELECT 'Carga', 'Prueba', DATE '1990-01-01', 'Calle 123 #45-67', 'loadtest-user-' || i || '@example.com',
+                       3000000, 'LT' || i, ?, ?
+                FROM generate_series(0, ? - 1) AS i""",
+                hash, RolName.ASESOR.getId(), users);
+        jdbc.execute("ANALYZE user_entity");
+    }
+}
@@ -1,10 +1,14 @@
 package co.com.crediya.config;
 
+import co.com.crediya.api.dto.RefreshTokenProperties;
+import co.com.crediya.model.refreshtoken.gateways.RefreshTokenRepository;
 import co.com.crediya.model.user.gateways.PasswordEncodePort;
 import co.com.crediya.model.user.gateways.UserRepository;
 import co.com.crediya.usecase.createuser.CreateUserUseCase;
 import co.com.crediya.usecase.deleteuser.DeleteUserUseCase;
 import co.com.crediya.usecase.getuserbyid.GetUserQueryUseCase;
+import co.com.crediya.usecase.importusers.ImportUsersUseCase;
+import co.com.crediya.usecase.refreshtoken.RefreshTokenUseCase;
 import co.com.crediya.usecase.updateuser.UpdateUserUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,4 +35,17 @@ public class UseCasesConfig {
     UpdateUserUseCase updateUserUseCase(UserRepository userRepository) {
         return new UpdateUserUseCase(userRepository);
     }
-}
\ No newline at end of file
+
+    @Bean
+    ImportUsersUseCase importUsersUseCase(UserRepository userRepository,
+                                          PasswordEncodePort passwordEncoderPort) {
+        return new ImportUsersUseCase(userRepository, passwordEncoderPort);
+    }
+
+    @Bean
+    RefreshTokenUseCase refreshTokenUseCase(RefreshTokenRepository refreshTokenRepository,
+                                            UserRepository userRepository,
+                                            RefreshTokenProperties refreshTokenProperties) {
+        return new RefreshTokenUseCase(refreshTokenRepository, userRepository, refreshTokenProperties.ttl());
+    }
+}
@@ -1,7 +1,9 @@
 package co.com.crediya.exceptions;
 
 import co.com.crediya.api.dto.GeneralResponse;
+import co.com.crediya.model.refreshtoken.exceptions.InvalidRefreshTokenException;
 import co.com.crediya.model.user.exceptions.DomainValidationException;
+import co.com.crediya.model.user.exceptions.HashingCapacityExceededException;
 import co.com.crediya.model.user.exceptions.UserNotFoundException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
@@ -10,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -92,6 +95,25 @@ public class GlobalExceptionHandler implements WebExceptionHandler {
             );
             log.warn("Usuario no encontrado: {}", ex.getMessage());
 
+        } else if (ex instanceof InvalidRefreshTokenException) {
+            status = HttpStatus.UNAUTHORIZED;
+            errorResponse = new GeneralResponse<>(
+                    status.value(),
+                    null,
+                    ex.getMessage()
+            );
+            log.warn("Refresh token rechazado: {}", ex.getMessage());
+
+        } else if (ex instanceof HashingCapacityExceededException) {
+            status = HttpStatus.TOO_MANY_REQUESTS;
+            errorResponse = new GeneralResponse<>(
+                    status.value(),
+                    null,
+                    ex.getMessage()
+            );
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            log.warn("Pool de hashing saturado: {}", ex.getMessage());
+
         } else {
             status = HttpStatus.INTERNAL_SERVER_ERROR;
             errorResponse = new GeneralResponse<>(
@@ -0,0 +1,216 @@
+package co.com.crediya.integration;
+
+import co.com.crediya.api.security.AuthService;
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.CreateUserCommand;
+import co.com.crediya.model.user.valueobjects.EditUserCommand;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import co.com.crediya.r2dbc.instrumentation.QueryNames;
+import co.com.crediya.r2dbc.testsupport.StatementCount;
+import co.com.crediya.r2dbc.testsupport.StatementCounter;
+import co.com.crediya.usecase.createuser.CreateUserUseCase;
+import co.com.crediya.usecase.deleteuser.DeleteUserUseCase;
+import co.com.crediya.usecase.getuserbyid.GetUserQueryUseCase;
+import co.com.crediya.usecase.importusers.ImportUsersUseCase;
+import co.com.crediya.usecase.refreshtoken.RefreshTokenUseCase;
+import co.com.crediya.usecase.updateuser.UpdateUserUseCase;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Presupuesto exacto de sentencias y transacciones por caso de uso contra Postgres real.
+ * Una sentencia de más (N+1, verificación previa, BEGIN/COMMIT innecesario) rompe el build.
+ * La caché de usuarios se desactiva para que cada lectura llegue a la base.
+ */
+@SpringBootTest
+@DisplayName("Use case statement budget Tests")
+class UseCaseStatementBudgetTest {
+
+    private static final String PASSWORD = "Secreta-123";
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    private StatementCounter counter;
+    @Autowired
+    private CreateUserUseCase createUserUseCase;
+    @Autowired
+    private UpdateUserUseCase updateUserUseCase;
+    @Autowired
+    private DeleteUserUseCase deleteUserUseCase;
+    @Autowired
+    private GetUserQueryUseCase getUserQueryUseCase;
+    @Autowired
+    private ImportUsersUseCase importUsersUseCase;
+    @Autowired
+    private RefreshTokenUseCase refreshTokenUseCase;
+    @Autowired
+    private AuthService authService;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("adapters.r2dbc.host", () -> "localhost");
+        registry.add("adapters.r2dbc.port", POSTGRES::getPort);
+        registry.add("adapters.r2dbc.database", () -> "postgres");
+        registry.add("adapters.r2dbc.username", () -> "postgres");
+        registry.add("adapters.r2dbc.password", () -> "postgres");
+        registry.add("adapters.r2dbc.cache.enabled", () -> false);
+        registry.add("security.jwt.secret", () -> "budget-secret-budget-secret-budget-secret-budget");
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    @DisplayName("shouldCreateUserInOneStatement")
+    void shouldCreateUserInOneStatement() {
+        counter.count(createUserUseCase.createUser(command(uniqueEmail())))
+                .assertBudget("createUser", 1, 0);
+    }
+
+    @Test
+    @DisplayName("shouldFindUserByEmailInOneStatement")
+    void shouldFindUserByEmailInOneStatement() {
+        User user = existingUser();
+
+        counter.count(getUserQueryUseCase.findUserByEmail(user.getEmail().value()))
+                .assertBudget("findUserByEmail", 1, 0);
+    }
+
+    @Test
+    @DisplayName("shouldReadPageInOneStatement")
+    void shouldReadPageInOneStatement() {
+        existingUser();
+
+        counter.count(getUserQueryUseCase.findUsersPage(null, 10))
+                .assertBudget("findUsersPage", 1, 0);
+    }
+
+    @Test
+    @DisplayName("shouldLookupEmailsAndIdsInOneStatementEach")
+    void shouldLookupEmailsAndIdsInOneStatementEach() {
+        User first = existingUser();
+        User second = existingUser();
+
+        counter.count(getUserQueryUseCase.lookupUsers(
+                        List.of(first.getEmail().value(), second.getEmail().value()),
+                        List.of(first.getId(), second.getId(), UUID.randomUUID())))
+                .assertBudget("lookupUsers", 2, 0);
+    }
+
+    @Test
+    @DisplayName("shouldUpdateUserInOneStatement")
+    void shouldUpdateUserInOneStatement() {
+        User user = existingUser();
+
+        counter.count(updateUserUseCase.editUser(user.getId(), edit(user.getEmail())))
+                .assertBudget("editUser", 1, 0);
+        counter.count(updateUserUseCase.editUserByEmail(user.getEmail(), edit(user.getEmail())))
+                .assertBudget("editUserByEmail", 1, 0);
+    }
+
+    @Test
+    @DisplayName("shouldDeleteUserInOneStatement")
+    void shouldDeleteUserInOneStatement() {
+        User user = existingUser();
+
+        counter.count(deleteUserUseCase.deleteUser(user.getEmail().value()))
+                .assertBudget("deleteUser", 1, 0);
+    }
+
+    @Test
+    @DisplayName("shouldImportBatchInOneStatement")
+    void shouldImportBatchInOneStatement() {
+        List<Supplier<CreateUserCommand>> rows = List.of(
+                () -> command(uniqueEmail()), () -> command(uniqueEmail()), () -> command(uniqueEmail()));
+
+        counter.count(importUsersUseCase.importUsers(Flux.fromIterable(rows)))
+                .assertBudget("importUsers", 1, 0);
+    }
+
+    @Test
+    @DisplayName("shouldLoginWithOneReadAndOneTokenInsert")
+    void shouldLoginWithOneReadAndOneTokenInsert() {
+        User user = existingUser();
+
+        StatementCount count = counter.count(
+                        authService.authenticate(user.getEmail(), PASSWORD).flatMap(refreshTokenUseCase::issue))
+                .assertBudget("login", 2, 0);
+
+        // Con @Transactional(readOnly) la lectura por email eran BEGIN + SELECT + COMMIT
+        assertThat(count.roundTrips()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("shouldRefreshTokenWithoutReadingPasswordAgain")
+    void shouldRefreshTokenWithoutReadingPasswordAgain() {
+        String refreshToken = refreshTokenUseCase.issue(existingUser()).block();
+
+        // findByTokenHash + findById + rotate (revoca e inserta en una sola sentencia)
+        counter.count(refreshTokenUseCase.refresh(refreshToken))
+                .assertBudget("refresh", 3, 0);
+    }
+
+    private User existingUser() {
+        return createUserUseCase.createUser(command(uniqueEmail())).block();
+    }
+
+    private static String uniqueEmail() {
+        return "budget-" + UUID.randomUUID() + "@example.com";
+    }
+
+    private static CreateUserCommand command(String email) {
+        return new CreateUserCommand(
+                "Juan",
+                "Pérez",
+                "Calle 123 #45-67",
+                new Birthday(LocalDate.of(1990, 5, 15)),
+                new Email(email),
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                PASSWORD,
+                "USER");
+    }
+
+    private static EditUserCommand edit(Email email) {
+        return new EditUserCommand("Carrera 7 #12-34", email, new Salary(new BigDecimal("3500000")));
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("No fue posible iniciar Postgres embebido", e);
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        StatementCounter statementCounter(QueryNames queryNames) {
+            return new StatementCounter(queryNames);
+        }
+    }
+}
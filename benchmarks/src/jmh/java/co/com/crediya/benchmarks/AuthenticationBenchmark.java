@@ -0,0 +1,52 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.JwtCacheProperties;
+import co.com.crediya.api.security.JwtAuthenticationCache;
+import co.com.crediya.api.security.JwtAuthenticationToken;
+import co.com.crediya.api.security.JwtReactiveAuthenticationManager;
+import co.com.crediya.api.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo del filtro de autenticación por petición. Con el profiler {@code gc}
+ * (activo por defecto en este módulo) {@code gc.alloc.rate.norm} reporta los bytes
+ * asignados por petición en el camino cacheado y en el de validación completa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private String token;
+    private JwtReactiveAuthenticationManager cachedManager;
+    private JwtReactiveAuthenticationManager uncachedManager;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = BenchmarkFixtures.jwtService(BenchmarkFixtures.jwtProperties());
+        token = jwtService.generateToken(BenchmarkFixtures.user());
+        cachedManager = new JwtReactiveAuthenticationManager(jwtService, new JwtAuthenticationCache(
+                new JwtCacheProperties(10_000L, Duration.ofMinutes(3)), new SimpleMeterRegistry()));
+        // TTL mínimo: cada llamada vuelve a validar firma y claims
+        uncachedManager = new JwtReactiveAuthenticationManager(jwtService, new JwtAuthenticationCache(
+                new JwtCacheProperties(1L, Duration.ofNanos(1)), new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Authentication cachedToken() {
+        return cachedManager.authenticate(JwtAuthenticationToken.unauthenticated(token)).block();
+    }
+
+    @Benchmark
+    public Authentication fullValidation() {
+        return uncachedManager.authenticate(JwtAuthenticationToken.unauthenticated(token)).block();
+    }
+}
@@ -0,0 +1,67 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.CreateUserRequest;
+import co.com.crediya.api.dto.JwtProperties;
+import co.com.crediya.api.dto.JwtSigningProperties;
+import co.com.crediya.api.security.JwtKeyRing;
+import co.com.crediya.api.security.JwtService;
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.enums.RolName;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public final class BenchmarkFixtures {
+
+    public static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private BenchmarkFixtures() {}
+
+    // Expiración amplia para que el token no venza durante las iteraciones
+    public static JwtProperties jwtProperties() {
+        return jwtProperties(JwtProperties.ClaimProfile.MINIMAL);
+    }
+
+    public static JwtProperties jwtProperties(JwtProperties.ClaimProfile claimProfile) {
+        return new JwtProperties("crediya-auth", "crediya-services", JWT_SECRET, 60, claimProfile);
+    }
+
+    public static JwtService jwtService(JwtProperties props) {
+        return jwtService(props, new JwtSigningProperties(null, null, null, null));
+    }
+
+    public static JwtService jwtService(JwtProperties props, JwtSigningProperties signing) {
+        return new JwtService(props, new JwtKeyRing(props, signing));
+    }
+
+    public static CreateUserRequest createUserRequest() {
+        return new CreateUserRequest(
+                "Juan",
+                "Pérez",
+                "1990-05-15",
+                "Calle 123 #45-67",
+                "juan.perez@example.com",
+                new BigDecimal("3000000"),
+                "1234567890",
+                "Cr3d1ya-Benchmark!",
+                RolName.ASESOR.name());
+    }
+
+    public static User user() {
+        return User.create(
+                UUID.fromString("7f1c6a0e-0d7e-4a43-9d55-3f3b0b7c2a11"),
+                "Juan",
+                "Pérez",
+                new Birthday(LocalDate.of(1990, 5, 15)),
+                "Calle 123 #45-67",
+                new Email("juan.perez@example.com"),
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOHi5rj8CjA6Qa6yWcJ0n3S6J2Y9YQ3y2",
+                RolName.ASESOR.getId());
+    }
+}
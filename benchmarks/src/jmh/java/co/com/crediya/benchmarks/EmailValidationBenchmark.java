@@ -0,0 +1,38 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.user.valueobjects.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validación de email: la expresión regular anterior frente al validador de una sola pasada,
+ * con una dirección válida y una inválida que obliga a retroceder a la regex.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    private static final Pattern LEGACY = Pattern.compile(
+            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    @Param({"maria.fernanda.gomez@crediya.com.co", "maria.fernanda.gomez@crediya.com.co.123"})
+    public String candidate;
+
+    @Benchmark
+    public boolean legacyRegex() {
+        return LEGACY.matcher(candidate).matches();
+    }
+
+    @Benchmark
+    public boolean singlePass() {
+        return Email.isValid(candidate);
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.GeneralResponse;
+import co.com.crediya.api.dto.UserResponse;
+import co.com.crediya.api.mapper.UserMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de {@link GeneralResponse}: respuesta de usuario con un ObjectMapper
+ * compartido y con un ObjectWriter tipado, y la respuesta de error tal como la escriben hoy
+ * GlobalExceptionHandler y SecurityConfig, creando un ObjectMapper por llamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneralResponseSerializationBenchmark {
+
+    private ObjectMapper shared;
+    private ObjectWriter typedWriter;
+    private GeneralResponse<UserResponse> userResponse;
+    private GeneralResponse<Object> errorResponse;
+
+    @Setup
+    public void setUp() {
+        shared = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        typedWriter = shared.writerFor(shared.getTypeFactory()
+                .constructParametricType(GeneralResponse.class, UserResponse.class));
+        userResponse = new GeneralResponse<>(200,
+                Mappers.getMapper(UserMapper.class).toResponse(BenchmarkFixtures.user()), null);
+        errorResponse = new GeneralResponse<>(401, null, "Token inválido");
+    }
+
+    @Benchmark
+    public byte[] userSharedMapper() throws JsonProcessingException {
+        return shared.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] userTypedWriter() throws JsonProcessingException {
+        return typedWriter.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] errorSharedMapper() throws JsonProcessingException {
+        return shared.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] errorMapperPerCall() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsBytes(errorResponse);
+    }
+}
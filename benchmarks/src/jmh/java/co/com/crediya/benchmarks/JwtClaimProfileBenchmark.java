@@ -0,0 +1,56 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.JwtProperties;
+import co.com.crediya.api.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo de validación por perfil de claims. El tamaño del token (bytes del header
+ * Authorization sin el prefijo Bearer) se publica como contador auxiliar tokenBytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtClaimProfileBenchmark {
+
+    @Param({"MINIMAL", "EXTENDED"})
+    public JwtProperties.ClaimProfile profile;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService(BenchmarkFixtures.jwtProperties(profile));
+        token = jwtService.generateToken(BenchmarkFixtures.user());
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TokenSize {
+        public long tokenBytes;
+
+        @Setup(Level.Iteration)
+        public void record(JwtClaimProfileBenchmark benchmark) {
+            tokenBytes = benchmark.token.getBytes(StandardCharsets.US_ASCII).length;
+        }
+    }
+
+    @Benchmark
+    public Jws<Claims> parse(TokenSize size) {
+        return jwtService.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken(BenchmarkFixtures.user());
+    }
+}
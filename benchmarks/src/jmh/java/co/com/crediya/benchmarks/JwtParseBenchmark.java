@@ -0,0 +1,54 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.JwtProperties;
+import co.com.crediya.api.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de validar un token por petición: parser reconstruido en cada llamada
+ * (comportamiento anterior) frente al parser cacheado en {@link JwtService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private JwtProperties props;
+    private SecretKey key;
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        props = BenchmarkFixtures.jwtProperties();
+        key = Keys.hmacShaKeyFor(props.secret().getBytes(StandardCharsets.UTF_8));
+        jwtService = BenchmarkFixtures.jwtService(props);
+        token = jwtService.generateToken(BenchmarkFixtures.user());
+    }
+
+    @Benchmark
+    public Jws<Claims> parserBuiltPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(props.issuer())
+                .requireAudience(props.audience())
+                .build()
+                .parseClaimsJws(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> cachedParser() {
+        return jwtService.parseAndValidate(token);
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.PasswordHashingProperties;
+import co.com.crediya.api.security.PasswordEncoderAdapter;
+import co.com.crediya.api.security.PasswordHashingScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link PasswordEncoderAdapter#matches} por strength de BCrypt. Cada punto de
+ * strength duplica el trabajo; 10 es el valor por defecto de BCryptPasswordEncoder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordMatchBenchmark {
+
+    private static final String PASSWORD = "Cr3d1ya-Benchmark!";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private PasswordHashingScheduler scheduler;
+    private PasswordEncoderAdapter adapter;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        scheduler = new PasswordHashingScheduler(new PasswordHashingProperties(1, 1), new SimpleMeterRegistry());
+        adapter = new PasswordEncoderAdapter(new BCryptPasswordEncoder(strength), scheduler);
+        encoded = adapter.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return adapter.matches(PASSWORD, encoded);
+    }
+}
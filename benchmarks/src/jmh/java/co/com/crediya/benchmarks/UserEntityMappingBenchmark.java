@@ -0,0 +1,62 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import co.com.crediya.r2dbc.entity.UserEntity;
+import co.com.crediya.r2dbc.mapper.UserEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por fila de rehidratar un {@link UserEntity}: el mapeo manual anterior, que revalidaba
+ * los value objects (regex de email incluida), frente al mapper generado con construcción confiable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserEntityMappingBenchmark {
+
+    private UserEntityMapper mapper;
+    private UserEntity entity;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(UserEntityMapper.class);
+        user = BenchmarkFixtures.user();
+        entity = mapper.toEntity(user);
+    }
+
+    @Benchmark
+    public User validatingToDomain() {
+        return new User(
+                entity.getId(),
+                entity.getName(),
+                entity.getLastName(),
+                new Birthday(entity.getBirthday()),
+                entity.getAddress(),
+                new Email(entity.getEmail()),
+                new Salary(entity.getBaseSalary()),
+                entity.getIdentification(),
+                entity.getPassword(),
+                entity.getRol()
+        );
+    }
+
+    @Benchmark
+    public User generatedToDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public UserEntity generatedToEntity() {
+        return mapper.toEntity(user);
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.CreateUserRequest;
+import co.com.crediya.api.dto.UserResponse;
+import co.com.crediya.api.mapper.UserMapper;
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.valueobjects.CreateUserCommand;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo de la capa web: request de creación a comando (valida los value objects) y
+ * usuario a respuesta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private UserMapper mapper;
+    private CreateUserRequest request;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(UserMapper.class);
+        request = BenchmarkFixtures.createUserRequest();
+        user = BenchmarkFixtures.user();
+    }
+
+    @Benchmark
+    public CreateUserCommand toCommand() {
+        return mapper.toCommand(request);
+    }
+
+    @Benchmark
+    public UserResponse toResponse() {
+        return mapper.toResponse(user);
+    }
+}
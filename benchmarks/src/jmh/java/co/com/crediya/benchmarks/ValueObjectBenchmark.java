@@ -0,0 +1,71 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción de los value objects del usuario: con validación, como en cada request de
+ * escritura, y confiable, como al rehidratar filas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private String email;
+    private BigDecimal salary;
+    private LocalDate birthday;
+    private String birthdayIso;
+
+    @Setup
+    public void setUp() {
+        email = "Juan.Perez@Example.com";
+        salary = new BigDecimal("3000000");
+        birthday = LocalDate.of(1990, 5, 15);
+        birthdayIso = birthday.toString();
+    }
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public Email emailTrusted() {
+        return Email.fromTrusted(email);
+    }
+
+    @Benchmark
+    public Salary salary() {
+        return new Salary(salary);
+    }
+
+    @Benchmark
+    public Salary salaryTrusted() {
+        return Salary.fromTrusted(salary);
+    }
+
+    @Benchmark
+    public Birthday birthday() {
+        return new Birthday(birthday);
+    }
+
+    @Benchmark
+    public Birthday birthdayFromIsoString() {
+        return Birthday.of(birthdayIso);
+    }
+
+    @Benchmark
+    public Birthday birthdayTrusted() {
+        return Birthday.fromTrusted(birthday);
+    }
+}
@@ -0,0 +1,10 @@
+package co.com.crediya.model.refreshtoken;
+
+import co.com.crediya.model.user.User;
+
+// Resultado de una rotación: el usuario para el nuevo access token y el refresh token que lo reemplaza
+public record RefreshGrant(
+        User user,
+        String refreshToken
+) {
+}
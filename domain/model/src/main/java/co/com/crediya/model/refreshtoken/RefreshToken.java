@@ -0,0 +1,31 @@
+package co.com.crediya.model.refreshtoken;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Refresh token persistido. Solo se guarda el hash SHA-256 del valor entregado al cliente;
+ * todos los tokens rotados a partir de un login comparten familyId.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class RefreshToken {
+    private UUID id;
+    private UUID userId;
+    private UUID familyId;
+    private String tokenHash;
+    private Instant expiresAt;
+    private Instant revokedAt;
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,7 @@
+package co.com.crediya.model.refreshtoken.exceptions;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package co.com.crediya.model.refreshtoken.gateways;
+
+import co.com.crediya.model.refreshtoken.RefreshToken;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RefreshTokenRepository {
+        // Guardar un token nuevo
+        Mono<RefreshToken> save(RefreshToken token);
+
+        // Revoca el token si sigue vigente e inserta el siguiente de su familia en una sola sentencia:
+        // si algo falla el presentado sigue vigente. Vacío si ya estaba revocado, vencido o no existe
+        Mono<RefreshToken> rotate(String tokenHash, String nextTokenHash, Instant nextExpiresAt);
+
+        // Obtener token por hash, vigente o no
+        Mono<RefreshToken> findByTokenHash(String tokenHash);
+
+        // Revocar todos los tokens vigentes de la familia, devolviendo las filas afectadas
+        Mono<Long> revokeFamily(UUID familyId);
+
+        // Borrar los tokens vencidos antes del corte, revocados o no, devolviendo las filas borradas
+        Mono<Long> deleteExpiredBefore(Instant cutoff);
+}
@@ -0,0 +1,7 @@
+package co.com.crediya.model.user.exceptions;
+
+public class HashingCapacityExceededException extends RuntimeException {
+    public HashingCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,13 @@
 package co.com.crediya.model.user.gateways;
 
+import reactor.core.publisher.Mono;
+
 public interface PasswordEncodePort {
     String encode(String raw);
     boolean matches(String raw, String encoded);
+
+    // Variantes no bloqueantes: el hashing corre fuera de los hilos de reactor y señalan
+    // HashingCapacityExceededException cuando el pool está saturado
+    Mono<String> encodeAsync(String raw);
+    Mono<Boolean> matchesAsync(String raw, String encoded);
 }
@@ -1,33 +1,53 @@
 package co.com.crediya.model.user.gateways;
 
 import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.valueobjects.EditUserCommand;
 import co.com.crediya.model.user.valueobjects.Email;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface UserRepository {
         // Crear usuario
         Mono<User> saveUser(User user);
 
+        // Crear usuario en una sola sentencia; vacío si el email ya está registrado
+        Mono<User> insertIfAbsent(User user);
+        // Inserción multi-fila; solo emite los usuarios cuyo email no existía
+        Flux<User> insertAllIfAbsent(List<User> users);
+
         // Actualizar usuario
         Mono<User> updateUser(User user);
 
+        // Actualizar solo dirección, email y salario en una sentencia; vacío si no existe
+        Mono<User> updateContactInfo(UUID id, EditUserCommand command);
+        Mono<User> updateContactInfoByEmail(Email email, EditUserCommand command);
+
         // Obtener usuario por email
         Mono<User> findByEmail(Email email);
 
         // Obtener usuario por id
         Mono<User> findById(UUID id);
 
+        // Búsqueda de varios usuarios en una sola consulta (= ANY); los que no existen se omiten
+        Flux<User> findAllByEmailIn(List<Email> emails);
+        Flux<User> findAllByIdIn(List<UUID> ids);
+
 
         // Obtener todos los usuarios
         Flux<User> findAll();
 
+        // Página de usuarios ordenada por id (keyset); afterId null para la primera página
+        Flux<User> findPage(UUID afterId, int size);
+
         // Eliminar usuario por el id
         Mono<Void> delete(UUID id);
         // Eliminar usuario por email
         Mono<Void> deleteByEmail(Email email);
+        // Eliminar por email en una sentencia, devolviendo las filas afectadas
+        Mono<Long> deleteByEmailReturningCount(Email email);
 
         // validacion para email unico
         Mono<Boolean> existsByEmail(Email email);
@@ -4,11 +4,25 @@ import co.com.crediya.model.user.exceptions.DomainValidationException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.Objects;
 
-public record Birthday(LocalDate value) {
+public final class Birthday {
 
-    public Birthday {
+    private final LocalDate value;
+
+    public Birthday(LocalDate value) {
         validate(value);
+        this.value = value;
+    }
+
+    private Birthday(LocalDate value, boolean trusted) {
+        this.value = value;
+    }
+
+    // Solo para valores ya validados al persistirse: la regla de 70 años depende de la fecha
+    // actual y no debe invalidar usuarios existentes al leerlos
+    public static Birthday fromTrusted(LocalDate value) {
+        return new Birthday(value, true);
     }
 
     private static void validate(LocalDate value) {
@@ -35,4 +49,23 @@ public record Birthday(LocalDate value) {
             throw new DomainValidationException("Formato de fecha inválido, use yyyy-MM-dd");
         }
     }
-}
\ No newline at end of file
+
+    public LocalDate value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Birthday other && Objects.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Birthday[value=" + value + "]";
+    }
+}
@@ -1,5 +1,6 @@
 package co.com.crediya.model.user.valueobjects;
 
+import co.com.crediya.model.user.common.ValidationResult;
 import co.com.crediya.model.user.exceptions.DomainValidationException;
 
 public record CreateUserCommand(
@@ -18,6 +19,36 @@ public record CreateUserCommand(
         validateCommand(name, lastName, address, birthday, email, baseSalary);
     }
 
+    /**
+     * Reglas que comparten la creación individual y la importación masiva antes de hashear o
+     * insertar. Acumula todos los errores en lugar de fallar con el primero.
+     */
+    public ValidationResult validate() {
+        ValidationResult result = new ValidationResult();
+
+        if (isBlank(name)) {
+            result.addError("El nombre es obligatorio");
+        }
+        if (isBlank(lastName)) {
+            result.addError("El apellido es obligatorio");
+        }
+        if (isBlank(address)) {
+            result.addError("La dirección es obligatoria");
+        }
+        if (isBlank(identification)) {
+            result.addError("La identificación es obligatoria");
+        }
+        if (isBlank(password)) {
+            result.addError("La contraseña es obligatoria");
+        }
+
+        return result;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     private static void validateCommand(String name, String lastName, String address,
                                         Birthday birthday, Email email, Salary baseSalary) {
         validateName(name);
@@ -2,23 +2,115 @@ package co.com.crediya.model.user.valueobjects;
 
 import co.com.crediya.model.user.exceptions.DomainValidationException;
 
-import java.util.regex.Pattern;
+import java.util.Locale;
+import java.util.Objects;
 
-public record Email(String value) {
+public final class Email {
 
-    private static final Pattern emailRegex = Pattern.compile(
-            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$",
-            Pattern.CASE_INSENSITIVE
-    );
-    public Email {
+    public static final int MAX_LENGTH = 254;
+
+    private final String value;
+
+    /**
+     * Valida en una sola pasada y normaliza a minúsculas (ASCII), la forma canónica usada en
+     * búsquedas. Acepta lo mismo que {@code ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$}
+     * hasta {@link #MAX_LENGTH} caracteres.
+     */
+    public Email(String value) {
         validate(value);
+        this.value = value.toLowerCase(Locale.ROOT);
     }
 
-    public static void validate(String email) {
+    private Email(String value, boolean trusted) {
+        this.value = value;
+    }
 
-        if (!emailRegex.matcher(email).matches()) {
+    /**
+     * Rehidrata un email que ya fue validado al persistirse (p. ej. leído de la base de datos),
+     * sin volver a validarlo.
+     */
+    public static Email fromTrusted(String value) {
+        return new Email(value, true);
+    }
+
+    public static void validate(String email) {
+        if (!isValid(email)) {
             throw new DomainValidationException("El email no tiene el formato correcto");
         }
     }
 
-}
\ No newline at end of file
+    public static boolean isValid(String email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        if (length < 6 || length > MAX_LENGTH) {
+            // el mínimo es a@b.cc
+            return false;
+        }
+
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                at = i;
+                break;
+            }
+            if (!isLocalChar(c)) {
+                return false;
+            }
+        }
+        if (at < 1) {
+            return false;
+        }
+
+        // Dominio: [A-Za-z0-9.-]+ seguido del último punto y al menos dos letras
+        int lastDot = -1;
+        int lettersAfterDot = 0;
+        for (int i = at + 1; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+                lettersAfterDot = 0;
+            } else if (isLetter(c)) {
+                lettersAfterDot++;
+            } else if (isDigit(c) || c == '-') {
+                lettersAfterDot = -length;
+            } else {
+                return false;
+            }
+        }
+        return lastDot > at + 1 && lettersAfterDot >= 2;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Email other && Objects.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Email[value=" + value + "]";
+    }
+}
@@ -3,14 +3,26 @@ package co.com.crediya.model.user.valueobjects;
 import co.com.crediya.model.user.exceptions.DomainValidationException;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
-public record Salary(BigDecimal amount) {
+public final class Salary {
     private static final BigDecimal MIN = new BigDecimal("0");
     private static final BigDecimal MAX = new BigDecimal("15000000");
 
-    public Salary {
+    private final BigDecimal amount;
+
+    public Salary(BigDecimal amount) {
         validate(amount);
+        this.amount = amount;
+    }
+
+    private Salary(BigDecimal amount, boolean trusted) {
+        this.amount = amount;
+    }
 
+    // Solo para valores ya validados al persistirse
+    public static Salary fromTrusted(BigDecimal amount) {
+        return new Salary(amount, true);
     }
 
     public static void validate(BigDecimal amount) {
@@ -18,4 +30,23 @@ public record Salary(BigDecimal amount) {
             throw new DomainValidationException("El salario debe estar entre 0 y 15000000");
         }
     }
-}
\ No newline at end of file
+
+    public BigDecimal amount() {
+        return amount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Salary other && Objects.equals(amount, other.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return "Salary[amount=" + amount + "]";
+    }
+}
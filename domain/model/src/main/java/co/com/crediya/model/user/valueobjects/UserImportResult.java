@@ -0,0 +1,34 @@
+package co.com.crediya.model.user.valueobjects;
+
+import java.util.UUID;
+
+/**
+ * Resultado de importar una fila: la posición en el lote recibido, el email y, según el
+ * estado, el id asignado o el motivo del rechazo.
+ */
+public record UserImportResult(
+        long line,
+        String email,
+        Status status,
+        UUID id,
+        String error
+) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static UserImportResult created(long line, String email, UUID id) {
+        return new UserImportResult(line, email, Status.CREATED, id, null);
+    }
+
+    public static UserImportResult duplicate(long line, String email) {
+        return new UserImportResult(line, email, Status.DUPLICATE, null, "El email ya está registrado");
+    }
+
+    public static UserImportResult invalid(long line, String email, String error) {
+        return new UserImportResult(line, email, Status.INVALID, null, error);
+    }
+}
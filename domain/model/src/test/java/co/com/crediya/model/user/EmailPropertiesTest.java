@@ -0,0 +1,64 @@
+package co.com.crediya.model.user;
+
+import co.com.crediya.model.user.valueobjects.Email;
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.StringLength;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * El validador de una sola pasada debe aceptar exactamente lo mismo que la expresión regular
+ * usada antes, salvo el límite de longitud.
+ */
+class EmailPropertiesTest {
+
+    private static final Pattern LEGACY = Pattern.compile(
+            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    @Provide
+    Arbitrary<String> emailLike() {
+        Arbitrary<String> localPart = Arbitraries.strings().withChars("aZ09+_.-").ofMinLength(0).ofMaxLength(12);
+        Arbitrary<String> domain = Arbitraries.strings().withChars("aZ09.-").ofMinLength(0).ofMaxLength(12);
+        Arbitrary<String> tld = Arbitraries.strings().withChars("cOm9-").ofMinLength(0).ofMaxLength(4);
+        Arbitrary<String> noise = Arbitraries.strings().withChars("@. \nñ").ofMaxLength(2);
+        return Combinators.combine(localPart, domain, tld, noise, Arbitraries.integers().between(0, 3))
+                .as((local, dom, suffix, extra, shape) -> switch (shape) {
+                    case 0 -> local + "@" + dom + "." + suffix;
+                    case 1 -> local + "@" + dom + suffix + extra;
+                    case 2 -> extra + local + "@" + dom + "." + suffix + extra;
+                    default -> local + dom + extra + suffix;
+                });
+    }
+
+    @Property(tries = 5000)
+    void acceptsSameSetAsLegacyRegex(@ForAll("emailLike") String candidate) {
+        assertThat(Email.isValid(candidate)).isEqualTo(LEGACY.matcher(candidate).matches());
+    }
+
+    @Property(tries = 2000)
+    void acceptsSameSetAsLegacyRegexForArbitraryInput(@ForAll @StringLength(max = 40) String candidate) {
+        assertThat(Email.isValid(candidate)).isEqualTo(LEGACY.matcher(candidate).matches());
+    }
+
+    @Property(tries = 500)
+    void normalizesToLowerCaseAndIsIdempotent(@ForAll("emailLike") String candidate) {
+        Assume.that(Email.isValid(candidate));
+
+        Email email = new Email(candidate);
+
+        assertThat(email.value()).isEqualTo(candidate.toLowerCase());
+        assertThat(new Email(email.value())).isEqualTo(email);
+    }
+
+    @Example
+    void rejectsAddressesLongerThanMaxLength() {
+        String longAddress = "a".repeat(Email.MAX_LENGTH - "@example.com".length() + 1) + "@example.com";
+
+        assertThat(LEGACY.matcher(longAddress).matches()).isTrue();
+        assertThat(Email.isValid(longAddress)).isFalse();
+    }
+}
@@ -20,55 +20,33 @@ public class CreateUserUseCase {
 
     public Mono<User> createUser(CreateUserCommand createUserCommand) {
 
-        ValidationResult validation = validateCommand(createUserCommand);
+        ValidationResult validation = createUserCommand.validate();
         if (validation.hasErrors()) {
             return Mono.error(new DomainValidationException(validation.getErrors()));
         }
 
-        return userRepository.existsByEmail(createUserCommand.email())
-                .flatMap(exists -> {
-                    if (exists) {
-                        return Mono.error(new DomainValidationException("El email ya está registrado"));
-                    }
-                    return createAndSaveUser(createUserCommand);
-                });
+        return Mono.defer(() -> createAndSaveUser(createUserCommand));
     }
 
     private Mono<User> createAndSaveUser(CreateUserCommand command) {
         UUID rolId = RolName.fromRol(command.rol())
                 .map(RolName::getId)
                 .orElseThrow(() -> new DomainValidationException("Rol inválido: " + command.rol()));
-        var hashed = passwordEncoder.encode(command.password());
-        User user = User.create(
-                null,
-                command.name(),
-                command.lastName(),
-                command.birthday(),
-                command.address(),
-                command.email(),
-                command.baseSalary(),
-                command.identification(),
-                hashed,
-                rolId
-        );
-
-        return userRepository.saveUser(user);
-    }
-
-    private ValidationResult validateCommand(CreateUserCommand command) {
-        ValidationResult result = new ValidationResult();
-
-        if (command.name() == null || command.name().isBlank()) {
-            result.addError("El nombre es obligatorio");
-        }
-        if (command.lastName() == null || command.lastName().isBlank()) {
-            result.addError("El apellido es obligatorio");
-        }
-        if (command.address() == null || command.address().isBlank()) {
-            result.addError("La dirección es obligatoria");
-        }
-
-        return result;
+        return passwordEncoder.encodeAsync(command.password())
+                .map(hashed -> User.create(
+                        null,
+                        command.name(),
+                        command.lastName(),
+                        command.birthday(),
+                        command.address(),
+                        command.email(),
+                        command.baseSalary(),
+                        command.identification(),
+                        hashed,
+                        rolId
+                ))
+                .flatMap(user -> userRepository.insertIfAbsent(user)
+                        .switchIfEmpty(Mono.error(new DomainValidationException("El email ya está registrado"))));
     }
 
 }
@@ -12,8 +12,9 @@ public class DeleteUserUseCase {
 
     public Mono<Void> deleteUser(String email) {
         Email mail = new Email(email);
-        return userRepository.findByEmail(mail)
+        return userRepository.deleteByEmailReturningCount(mail)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new UserNotFoundException("El email no existe.")))
-                .flatMap(user -> userRepository.deleteByEmail(mail));
+                .then();
     }
 }
@@ -9,9 +9,17 @@ import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.UUID;
+
 @RequiredArgsConstructor
 public class GetUserQueryUseCase {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_LOOKUP_KEYS = 500;
+    private static final int STREAM_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
 
     public Mono<User> findUserByEmail(String email) {
@@ -25,4 +33,46 @@ public class GetUserQueryUseCase {
                 .switchIfEmpty(Mono.error(new DomainValidationException("No hay registros.")));
     }
 
+    // Página ordenada por id a partir del cursor (id del último usuario de la página anterior)
+    public Flux<User> findUsersPage(UUID cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return Flux.error(new DomainValidationException(
+                    "El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE));
+        }
+        return userRepository.findPage(cursor, pageSize);
+    }
+
+    // Resuelve varios usuarios por email y/o id; cada usuario se emite una sola vez
+    public Flux<User> lookupUsers(List<String> emails, List<UUID> ids) {
+        List<String> emailKeys = emails == null ? List.of() : emails;
+        List<UUID> idKeys = ids == null ? List.of() : ids;
+        int keys = emailKeys.size() + idKeys.size();
+        if (keys == 0 || keys > MAX_LOOKUP_KEYS) {
+            return Flux.error(new DomainValidationException(
+                    "Debe enviar entre 1 y " + MAX_LOOKUP_KEYS + " emails o ids"));
+        }
+
+        return Flux.defer(() -> {
+            List<Email> mails = emailKeys.stream().distinct().map(Email::new).toList();
+            List<UUID> distinctIds = idKeys.stream().distinct().toList();
+            Flux<User> byEmail = mails.isEmpty() ? Flux.empty() : userRepository.findAllByEmailIn(mails);
+            Flux<User> byId = distinctIds.isEmpty() ? Flux.empty() : userRepository.findAllByIdIn(distinctIds);
+            return Flux.merge(byEmail, byId).distinct(User::getId);
+        });
+    }
+
+    // Recorre toda la tabla página a página; solo pide la siguiente cuando hay demanda
+    public Flux<User> streamAllUsers() {
+        return fetchStreamPage(null)
+                .expand(page -> page.size() < STREAM_PAGE_SIZE
+                        ? Mono.empty()
+                        : fetchStreamPage(page.get(page.size() - 1).getId()))
+                .flatMapIterable(page -> page);
+    }
+
+    private Mono<List<User>> fetchStreamPage(UUID cursor) {
+        return userRepository.findPage(cursor, STREAM_PAGE_SIZE).collectList();
+    }
+
 }
@@ -0,0 +1,137 @@
+package co.com.crediya.usecase.importusers;
+
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.common.ValidationResult;
+import co.com.crediya.model.user.enums.RolName;
+import co.com.crediya.model.user.exceptions.DomainValidationException;
+import co.com.crediya.model.user.exceptions.HashingCapacityExceededException;
+import co.com.crediya.model.user.gateways.PasswordEncodePort;
+import co.com.crediya.model.user.gateways.UserRepository;
+import co.com.crediya.model.user.valueobjects.CreateUserCommand;
+import co.com.crediya.model.user.valueobjects.UserImportResult;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class ImportUsersUseCase {
+
+    public static final int BATCH_SIZE = 500;
+    // La mitad de los núcleos: el pool de hashing también atiende los logins en línea
+    private static final int HASH_CONCURRENCY = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private final UserRepository userRepository;
+    private final PasswordEncodePort passwordEncoder;
+
+    /**
+     * Importa usuarios en orden. Cada fila se valida y se hashea en paralelo, se insertan por
+     * lotes multi-fila y se emite un resultado por fila en el mismo orden de entrada. Los
+     * errores de una fila no detienen la importación.
+     */
+    public Flux<UserImportResult> importUsers(Flux<Supplier<CreateUserCommand>> commands) {
+        return commands.index()
+                .flatMapSequential(row -> prepare(row.getT1() + 1, row.getT2()), HASH_CONCURRENCY)
+                .buffer(BATCH_SIZE)
+                .concatMap(this::insertBatch);
+    }
+
+    private Mono<PreparedRow> prepare(long line, Supplier<CreateUserCommand> source) {
+        CreateUserCommand command;
+        UUID rolId;
+        try {
+            command = source.get();
+            ValidationResult validation = command.validate();
+            if (validation.hasErrors()) {
+                return Mono.just(PreparedRow.invalid(UserImportResult.invalid(
+                        line, command.email().value(), String.join("; ", validation.getErrors()))));
+            }
+            rolId = RolName.fromRol(command.rol())
+                    .map(RolName::getId)
+                    .orElseThrow(() -> new DomainValidationException("Rol inválido: " + command.rol()));
+        } catch (RuntimeException e) {
+            String error = e instanceof DomainValidationException ? e.getMessage() : "Registro inválido";
+            return Mono.just(PreparedRow.invalid(UserImportResult.invalid(line, null, error)));
+        }
+
+        return passwordEncoder.encodeAsync(command.password())
+                // Solo la saturación del pool es transitoria; cualquier otro fallo queda en la fila
+                .retryWhen(Retry.backoff(5, Duration.ofMillis(50))
+                        .filter(HashingCapacityExceededException.class::isInstance))
+                .map(hashed -> PreparedRow.valid(line, User.create(
+                        null,
+                        command.name(),
+                        command.lastName(),
+                        command.birthday(),
+                        command.address(),
+                        command.email(),
+                        command.baseSalary(),
+                        command.identification(),
+                        hashed,
+                        rolId
+                )))
+                .onErrorResume(e -> {
+                    String error = e instanceof DomainValidationException
+                            ? e.getMessage() : "No fue posible procesar la contraseña";
+                    return Mono.just(PreparedRow.invalid(UserImportResult.invalid(line, command.email().value(), error)));
+                });
+    }
+
+    private Flux<UserImportResult> insertBatch(List<PreparedRow> batch) {
+        // Emails repetidos dentro del lote: se inserta el primero y el resto queda como duplicado
+        Map<String, PreparedRow> firstByEmail = new HashMap<>();
+        List<User> toInsert = new ArrayList<>();
+        for (PreparedRow row : batch) {
+            if (row.user() != null && firstByEmail.putIfAbsent(row.email(), row) == null) {
+                toInsert.add(row.user());
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return Flux.fromIterable(batch).map(row -> resultOf(row, firstByEmail, Map.of()));
+        }
+
+        // Si el INSERT multi-fila falla no se guardó ninguna fila del lote: se reportan y se sigue
+        return userRepository.insertAllIfAbsent(toInsert)
+                .collectMap(user -> user.getEmail().value(), User::getId)
+                .flatMapMany(inserted -> Flux.fromIterable(batch)
+                        .map(row -> resultOf(row, firstByEmail, inserted)))
+                .onErrorResume(e -> Flux.fromIterable(batch).map(row -> row.invalid() != null
+                        ? row.invalid()
+                        : UserImportResult.invalid(row.line(), row.email(), "No fue posible guardar el registro")));
+    }
+
+    private static UserImportResult resultOf(PreparedRow row, Map<String, PreparedRow> firstByEmail,
+                                             Map<String, UUID> inserted) {
+        if (row.invalid() != null) {
+            return row.invalid();
+        }
+        UUID id = inserted.get(row.email());
+        if (id != null && firstByEmail.get(row.email()) == row) {
+            return UserImportResult.created(row.line(), row.email(), id);
+        }
+        return UserImportResult.duplicate(row.line(), row.email());
+    }
+
+    private record PreparedRow(long line, User user, UserImportResult invalid) {
+
+        static PreparedRow valid(long line, User user) {
+            return new PreparedRow(line, user, null);
+        }
+
+        static PreparedRow invalid(UserImportResult result) {
+            return new PreparedRow(result.line(), null, result);
+        }
+
+        String email() {
+            return user.getEmail().value();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package co.com.crediya.usecase.refreshtoken;
+
+import co.com.crediya.model.refreshtoken.RefreshGrant;
+import co.com.crediya.model.refreshtoken.RefreshToken;
+import co.com.crediya.model.refreshtoken.exceptions.InvalidRefreshTokenException;
+import co.com.crediya.model.refreshtoken.gateways.RefreshTokenRepository;
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.gateways.UserRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Emisión y rotación de refresh tokens opacos. Cada uso revoca el token presentado y entrega
+ * uno nuevo de la misma familia; presentar un token ya rotado se trata como robo y revoca la
+ * familia completa. Las filas vencidas se conservan durante un margen para seguir detectando
+ * la reutilización de tokens rotados y después se purgan.
+ */
+@RequiredArgsConstructor
+public class RefreshTokenUseCase {
+
+    private static final String INVALID_MSG = "Refresh token inválido o vencido";
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public RefreshTokenUseCase(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+                               Duration ttl) {
+        this(refreshTokenRepository, userRepository, ttl, Clock.systemUTC());
+    }
+
+    // Nueva familia por cada login
+    public Mono<String> issue(User user) {
+        return issue(user.getId(), UUID.randomUUID());
+    }
+
+    public Mono<RefreshGrant> refresh(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return Mono.error(new InvalidRefreshTokenException(INVALID_MSG));
+        }
+        String hash = hash(rawToken);
+        // Se lee y se valida todo antes de rotar: si algo falla el token presentado sigue vigente
+        return refreshTokenRepository.findByTokenHash(hash)
+                .switchIfEmpty(Mono.error(new InvalidRefreshTokenException(INVALID_MSG)))
+                .flatMap(presented -> {
+                    if (presented.isRevoked()) {
+                        return this.<RefreshGrant>revokeFamily(presented);
+                    }
+                    if (presented.isExpiredAt(clock.instant())) {
+                        return Mono.<RefreshGrant>error(new InvalidRefreshTokenException(INVALID_MSG));
+                    }
+                    return userRepository.findById(presented.getUserId())
+                            .switchIfEmpty(Mono.error(new InvalidRefreshTokenException(INVALID_MSG)))
+                            .flatMap(user -> rotate(hash, user));
+                });
+    }
+
+    // Sin purga cada refresh deja una fila revocada para siempre
+    public Mono<Long> purgeExpired(Duration grace) {
+        return Mono.defer(() -> refreshTokenRepository.deleteExpiredBefore(clock.instant().minus(grace)));
+    }
+
+    private Mono<RefreshGrant> rotate(String hash, User user) {
+        String raw = newRawToken();
+        return refreshTokenRepository.rotate(hash, hash(raw), clock.instant().plus(ttl))
+                // Otro uso concurrente del mismo token lo rotó primero
+                .switchIfEmpty(Mono.defer(() -> rejectReuse(hash)))
+                .thenReturn(new RefreshGrant(user, raw));
+    }
+
+    private Mono<String> issue(UUID userId, UUID familyId) {
+        String raw = newRawToken();
+        RefreshToken token = RefreshToken.builder()
+                .userId(userId)
+                .familyId(familyId)
+                .tokenHash(hash(raw))
+                .expiresAt(clock.instant().plus(ttl))
+                .build();
+        return refreshTokenRepository.save(token).thenReturn(raw);
+    }
+
+    // Un token conocido pero ya revocado indica reutilización: se corta toda la familia
+    private Mono<RefreshToken> rejectReuse(String hash) {
+        return refreshTokenRepository.findByTokenHash(hash)
+                .filter(RefreshToken::isRevoked)
+                .flatMap(reused -> refreshTokenRepository.revokeFamily(reused.getFamilyId()))
+                .then(Mono.error(new InvalidRefreshTokenException(INVALID_MSG)));
+    }
+
+    private <T> Mono<T> revokeFamily(RefreshToken reused) {
+        return refreshTokenRepository.revokeFamily(reused.getFamilyId())
+                .then(Mono.error(new InvalidRefreshTokenException(INVALID_MSG)));
+    }
+
+    private static String newRawToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -22,17 +22,8 @@ public class UpdateUserUseCase {
             return Mono.error(new DomainValidationException(validation.getErrors()));
         }
 
-        return userRepository.findById(userId)
-                .switchIfEmpty(Mono.error(new DomainValidationException("Usuario no encontrado")))
-                .flatMap(existing -> {
-                    User updated = existing.withAddressEmailSalary(
-                            editUserCommand.address(),
-                            editUserCommand.email(),
-                            editUserCommand.baseSalary(),
-                            existing.getIdentification()
-                    );
-                    return userRepository.saveUser(updated);
-                });
+        return userRepository.updateContactInfo(userId, editUserCommand)
+                .switchIfEmpty(Mono.error(new DomainValidationException("Usuario no encontrado")));
     }
 
     public Mono<User> editUserByEmail(Email userId, EditUserCommand editUserCommand) {
@@ -41,17 +32,8 @@ public class UpdateUserUseCase {
             return Mono.error(new DomainValidationException(validation.getErrors()));
         }
 
-        return userRepository.findByEmail(userId)
-                .switchIfEmpty(Mono.error(new DomainValidationException("Usuario no encontrado")))
-                .flatMap(existing -> {
-                    User updated = existing.withAddressEmailSalary(
-                            editUserCommand.address(),
-                            editUserCommand.email(),
-                            editUserCommand.baseSalary(),
-                            existing.getIdentification()
-                    );
-                    return userRepository.saveUser(updated);
-                });
+        return userRepository.updateContactInfoByEmail(userId, editUserCommand)
+                .switchIfEmpty(Mono.error(new DomainValidationException("Usuario no encontrado")));
     }
 
 
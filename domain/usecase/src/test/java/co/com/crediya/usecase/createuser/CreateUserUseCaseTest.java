@@ -1,13 +1,16 @@
 package co.com.crediya.usecase.createuser;
 
 import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.enums.RolName;
 import co.com.crediya.model.user.exceptions.DomainValidationException;
+import co.com.crediya.model.user.gateways.PasswordEncodePort;
 import co.com.crediya.model.user.gateways.UserRepository;
 import co.com.crediya.model.user.valueobjects.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
@@ -16,8 +19,11 @@ import reactor.test.StepVerifier;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,19 +33,25 @@ class CreateUserUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PasswordEncodePort passwordEncoder;
+
     private CreateUserUseCase createUserUseCase;
     private CreateUserCommand validCommand;
 
     @BeforeEach
     void setUp() {
-        createUserUseCase = new CreateUserUseCase(userRepository);
+        createUserUseCase = new CreateUserUseCase(userRepository, passwordEncoder);
         validCommand = new CreateUserCommand(
                 "Juan",
                 "Pérez",
                 "Calle 123 #45-67",
                 new Birthday(LocalDate.of(1990, 5, 15)),
                 new Email("juan.perez@example.com"),
-                new Salary(new BigDecimal("3000000"))
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "secreto",
+                "USER"
         );
     }
 
@@ -50,23 +62,64 @@ class CreateUserUseCaseTest {
                 new Birthday(LocalDate.of(1990, 5, 15)),
                 "Calle 123 #45-67",
                 new Email("juan.perez@example.com"),
-                new Salary(new BigDecimal("3000000")));
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "hashed",
+                RolName.USER.getId());
 
-        when(userRepository.existsByEmail(eq(validCommand.email()))).thenReturn(Mono.just(false));
-        when(userRepository.saveUser(any(User.class))).thenReturn(Mono.just(expectedUser));
+        when(passwordEncoder.encodeAsync("secreto")).thenReturn(Mono.just("hashed"));
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(Mono.just(expectedUser));
 
         StepVerifier.create(createUserUseCase.createUser(validCommand))
                 .expectNext(expectedUser)
                 .verifyComplete();
+
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).insertIfAbsent(saved.capture());
+        assertThat(saved.getValue().getPassword()).isEqualTo("hashed");
+        assertThat(saved.getValue().getRol()).isEqualTo(RolName.USER.getId());
     }
 
     @Test
     @DisplayName("shouldThrowExceptionWhenEmailAlreadyExists")
     void shouldThrowExceptionWhenEmailAlreadyExists() {
-        when(userRepository.existsByEmail(eq(validCommand.email()))).thenReturn(Mono.just(true));
+        when(passwordEncoder.encodeAsync("secreto")).thenReturn(Mono.just("hashed"));
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(Mono.empty());
 
         StepVerifier.create(createUserUseCase.createUser(validCommand))
+                .expectErrorMatches(e -> e instanceof DomainValidationException
+                        && e.getMessage().equals("El email ya está registrado"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("shouldFailWithoutHashingWhenRolIsInvalid")
+    void shouldFailWithoutHashingWhenRolIsInvalid() {
+        CreateUserCommand invalidRol = new CreateUserCommand(
+                validCommand.name(), validCommand.lastName(), validCommand.address(), validCommand.birthday(),
+                validCommand.email(), validCommand.baseSalary(), validCommand.identification(),
+                validCommand.password(), "GERENTE");
+
+        StepVerifier.create(createUserUseCase.createUser(invalidRol))
                 .expectError(DomainValidationException.class)
                 .verify();
+
+        verify(passwordEncoder, never()).encodeAsync(anyString());
+        verify(userRepository, never()).insertIfAbsent(any(User.class));
+    }
+
+    @Test
+    @DisplayName("shouldFailWithoutHashingWhenIdentificationOrPasswordAreBlank")
+    void shouldFailWithoutHashingWhenIdentificationOrPasswordAreBlank() {
+        CreateUserCommand incomplete = new CreateUserCommand(
+                validCommand.name(), validCommand.lastName(), validCommand.address(), validCommand.birthday(),
+                validCommand.email(), validCommand.baseSalary(), " ", null, validCommand.rol());
+
+        StepVerifier.create(createUserUseCase.createUser(incomplete))
+                .expectErrorSatisfies(e -> assertThat(((DomainValidationException) e).getErrors())
+                        .containsExactly("La identificación es obligatoria", "La contraseña es obligatoria"))
+                .verify();
+
+        verify(passwordEncoder, never()).encodeAsync(anyString());
     }
-}
\ No newline at end of file
+}
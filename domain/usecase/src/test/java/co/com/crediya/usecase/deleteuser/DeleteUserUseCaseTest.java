@@ -2,7 +2,7 @@ package co.com.crediya.usecase.deleteuser;
 
 
 import co.com.crediya.model.user.User;
-import co.com.crediya.model.user.exceptions.DomainValidationException;
+import co.com.crediya.model.user.exceptions.UserNotFoundException;
 import co.com.crediya.model.user.gateways.UserRepository;
 import co.com.crediya.model.user.valueobjects.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +19,8 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +43,10 @@ class DeleteUserUseCaseTest {
                 new Birthday(LocalDate.of(1990, 5, 15)),
                 "Calle 123 #45-67",
                 new Email("juan.perez@example.com"),
-                new Salary(new BigDecimal("3000000"))
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "hashed",
+                UUID.randomUUID()
         );
     }
 
@@ -50,8 +55,7 @@ class DeleteUserUseCaseTest {
     void shouldDeleteUserWhenEmailExists() {
         // Given
         String email = "juan.perez@example.com";
-        when(userRepository.findByEmail(any(Email.class))).thenReturn(Mono.just(existingUser));
-        when(userRepository.deleteByEmail(any(Email.class))).thenReturn(Mono.empty());
+        when(userRepository.deleteByEmailReturningCount(any(Email.class))).thenReturn(Mono.just(1L));
 
         // When & Then
         StepVerifier.create(deleteUserUseCase.deleteUser(email))
@@ -63,11 +67,13 @@ class DeleteUserUseCaseTest {
     void shouldThrowExceptionWhenEmailNotExists() {
         // Given
         String email = "nonexistent@example.com";
-        when(userRepository.findByEmail(any(Email.class))).thenReturn(Mono.empty());
+        when(userRepository.deleteByEmailReturningCount(any(Email.class))).thenReturn(Mono.just(0L));
 
         // When & Then
         StepVerifier.create(deleteUserUseCase.deleteUser(email))
-                .expectError(DomainValidationException.class)
+                .expectError(UserNotFoundException.class)
                 .verify();
+
+        verify(userRepository, never()).findByEmail(any(Email.class));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package co.com.crediya.usecase.getuserbyid;
 
 import co.com.crediya.model.user.User;
 import co.com.crediya.model.user.exceptions.DomainValidationException;
+import co.com.crediya.model.user.exceptions.UserNotFoundException;
 import co.com.crediya.model.user.gateways.UserRepository;
 import co.com.crediya.model.user.valueobjects.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,9 +17,15 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +48,10 @@ class GetUserQueryUseCaseTest {
                 new Birthday(LocalDate.of(1990, 5, 15)),
                 "Calle 123 #45-67",
                 new Email("juan.perez@example.com"),
-                new Salary(new BigDecimal("3000000"))
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "hashed",
+                UUID.randomUUID()
         );
     }
 
@@ -67,7 +77,7 @@ class GetUserQueryUseCaseTest {
 
         // When & Then
         StepVerifier.create(getUserQueryUseCase.findUserByEmail(email))
-                .expectError(DomainValidationException.class)
+                .expectError(UserNotFoundException.class)
                 .verify();
     }
 
@@ -94,4 +104,76 @@ class GetUserQueryUseCaseTest {
                 .expectError(DomainValidationException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("shouldUseDefaultPageSizeWhenNotProvided")
+    void shouldUseDefaultPageSizeWhenNotProvided() {
+        // Given
+        when(userRepository.findPage(null, GetUserQueryUseCase.DEFAULT_PAGE_SIZE)).thenReturn(Flux.just(existingUser));
+
+        // When & Then
+        StepVerifier.create(getUserQueryUseCase.findUsersPage(null, null))
+                .expectNext(existingUser)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("shouldRejectPageSizeOutOfRange")
+    void shouldRejectPageSizeOutOfRange() {
+        StepVerifier.create(getUserQueryUseCase.findUsersPage(null, GetUserQueryUseCase.MAX_PAGE_SIZE + 1))
+                .expectError(DomainValidationException.class)
+                .verify();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("shouldStreamAllPagesUsingLastIdAsCursor")
+    void shouldStreamAllPagesUsingLastIdAsCursor() {
+        // Given: una página llena seguida de una parcial
+        List<User> firstPage = IntStream.range(0, 200)
+                .mapToObj(i -> existingUser.toBuilder().id(new UUID(0L, i)).build())
+                .toList();
+        UUID lastId = firstPage.get(firstPage.size() - 1).getId();
+        when(userRepository.findPage(isNull(), anyInt())).thenReturn(Flux.fromIterable(firstPage));
+        when(userRepository.findPage(lastId, 200)).thenReturn(Flux.just(existingUser));
+
+        // When & Then
+        StepVerifier.create(getUserQueryUseCase.streamAllUsers())
+                .expectNextCount(201)
+                .verifyComplete();
+
+        verify(userRepository).findPage(lastId, 200);
+    }
+
+    @Test
+    @DisplayName("shouldLookupByEmailsAndIdsEmittingEachUserOnce")
+    void shouldLookupByEmailsAndIdsEmittingEachUserOnce() {
+        // Given: el mismo usuario llega por email y por id
+        when(userRepository.findAllByEmailIn(List.of(new Email("juan.perez@example.com"))))
+                .thenReturn(Flux.just(existingUser));
+        when(userRepository.findAllByIdIn(List.of(existingUser.getId())))
+                .thenReturn(Flux.just(existingUser));
+
+        // When & Then
+        StepVerifier.create(getUserQueryUseCase.lookupUsers(
+                        List.of("juan.perez@example.com", "juan.perez@example.com"),
+                        List.of(existingUser.getId())))
+                .expectNext(existingUser)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("shouldRejectLookupWithTooManyKeys")
+    void shouldRejectLookupWithTooManyKeys() {
+        List<UUID> ids = IntStream.rangeClosed(0, GetUserQueryUseCase.MAX_LOOKUP_KEYS)
+                .mapToObj(i -> new UUID(0L, i))
+                .toList();
+
+        StepVerifier.create(getUserQueryUseCase.lookupUsers(List.of(), ids))
+                .expectError(DomainValidationException.class)
+                .verify();
+
+        verifyNoInteractions(userRepository);
+    }
 }
@@ -0,0 +1,224 @@
+package co.com.crediya.usecase.importusers;
+
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.enums.RolName;
+import co.com.crediya.model.user.exceptions.DomainValidationException;
+import co.com.crediya.model.user.exceptions.HashingCapacityExceededException;
+import co.com.crediya.model.user.gateways.PasswordEncodePort;
+import co.com.crediya.model.user.gateways.UserRepository;
+import co.com.crediya.model.user.valueobjects.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportUsersUseCase Tests")
+class ImportUsersUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncodePort passwordEncoder;
+
+    private ImportUsersUseCase importUsersUseCase;
+
+    @BeforeEach
+    void setUp() {
+        importUsersUseCase = new ImportUsersUseCase(userRepository, passwordEncoder);
+    }
+
+    private static CreateUserCommand command(String email, String rol) {
+        return command(email, rol, "secreto");
+    }
+
+    private static CreateUserCommand command(String email, String rol, String password) {
+        return new CreateUserCommand(
+                "Juan",
+                "Pérez",
+                "Calle 123 #45-67",
+                new Birthday(LocalDate.of(1990, 5, 15)),
+                new Email(email),
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                password,
+                rol
+        );
+    }
+
+    private static User inserted(User user) {
+        return User.create(UUID.randomUUID(), user.getName(), user.getLastName(), user.getBirthday(),
+                user.getAddress(), user.getEmail(), user.getBaseSalary(), user.getIdentification(),
+                user.getPassword(), user.getRol());
+    }
+
+    @Test
+    @DisplayName("shouldReportOneResultPerRowInInputOrder")
+    void shouldReportOneResultPerRowInInputOrder() {
+        when(passwordEncoder.encodeAsync("secreto")).thenReturn(Mono.just("hashed"));
+        when(userRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            // ana.ya@example.com ya existía en la base
+            return Flux.fromIterable(users)
+                    .filter(u -> !u.getEmail().value().equals("ana.ya@example.com"))
+                    .map(ImportUsersUseCaseTest::inserted);
+        });
+
+        Flux<Supplier<CreateUserCommand>> rows = Flux.just(
+                () -> command("juan.perez@example.com", "USER"),
+                () -> command("ana.ya@example.com", "USER"),
+                () -> command("no-es-un-email", "USER"),
+                () -> command("luis@example.com", "GERENTE"),
+                () -> command("juan.perez@example.com", "ASESOR"));
+
+        StepVerifier.create(importUsersUseCase.importUsers(rows))
+                .assertNext(r -> {
+                    assertThat(r.line()).isEqualTo(1);
+                    assertThat(r.status()).isEqualTo(UserImportResult.Status.CREATED);
+                    assertThat(r.id()).isNotNull();
+                })
+                .assertNext(r -> assertThat(r.status()).isEqualTo(UserImportResult.Status.DUPLICATE))
+                .assertNext(r -> {
+                    assertThat(r.status()).isEqualTo(UserImportResult.Status.INVALID);
+                    assertThat(r.error()).isEqualTo("El email no tiene el formato correcto");
+                })
+                .assertNext(r -> assertThat(r.error()).isEqualTo("Rol inválido: GERENTE"))
+                .assertNext(r -> {
+                    assertThat(r.line()).isEqualTo(5);
+                    assertThat(r.status()).isEqualTo(UserImportResult.Status.DUPLICATE);
+                })
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> batch = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).insertAllIfAbsent(batch.capture());
+        assertThat(batch.getValue()).hasSize(2);
+        assertThat(batch.getValue()).allSatisfy(u -> {
+            assertThat(u.getPassword()).isEqualTo("hashed");
+            assertThat(u.getRol()).isEqualTo(RolName.USER.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("shouldNotTouchRepositoryWhenEveryRowIsInvalid")
+    void shouldNotTouchRepositoryWhenEveryRowIsInvalid() {
+        Flux<Supplier<CreateUserCommand>> rows = Flux.just(() -> {
+            throw new DomainValidationException("El nombre es obligatorio");
+        });
+
+        StepVerifier.create(importUsersUseCase.importUsers(rows))
+                .assertNext(r -> assertThat(r.error()).isEqualTo("El nombre es obligatorio"))
+                .verifyComplete();
+
+        verify(passwordEncoder, never()).encodeAsync(anyString());
+        verify(userRepository, never()).insertAllIfAbsent(anyList());
+    }
+
+    @Test
+    @DisplayName("shouldKeepImportingWhenHashingStaysSaturatedForOneRow")
+    void shouldKeepImportingWhenHashingStaysSaturatedForOneRow() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(passwordEncoder.encodeAsync("secreto")).thenReturn(Mono.just("hashed"));
+        when(passwordEncoder.encodeAsync("saturada")).thenReturn(Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new HashingCapacityExceededException("Pool de hashing saturado", null));
+        }));
+        when(userRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<List<User>>getArgument(0)).map(ImportUsersUseCaseTest::inserted));
+
+        Flux<Supplier<CreateUserCommand>> rows = Flux.just(
+                () -> command("juan.perez@example.com", "USER"),
+                () -> command("ana@example.com", "USER", "saturada"),
+                () -> command("luis@example.com", "USER"));
+
+        StepVerifier.create(importUsersUseCase.importUsers(rows))
+                .assertNext(r -> assertThat(r.status()).isEqualTo(UserImportResult.Status.CREATED))
+                .assertNext(r -> {
+                    assertThat(r.line()).isEqualTo(2);
+                    assertThat(r.status()).isEqualTo(UserImportResult.Status.INVALID);
+                    assertThat(r.email()).isEqualTo("ana@example.com");
+                })
+                .assertNext(r -> assertThat(r.status()).isEqualTo(UserImportResult.Status.CREATED))
+                .verifyComplete();
+
+        // El intento original más los cinco reintentos
+        assertThat(attempts).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("shouldReportRowsMissingRequiredFieldsWithoutInsertingThem")
+    void shouldReportRowsMissingRequiredFieldsWithoutInsertingThem() {
+        when(passwordEncoder.encodeAsync("secreto")).thenReturn(Mono.just("hashed"));
+        when(userRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<List<User>>getArgument(0)).map(ImportUsersUseCaseTest::inserted));
+
+        // Los comandos se construyen igual que en el mapper del handler
+        Flux<Supplier<CreateUserCommand>> rows = Flux.just(
+                () -> new CreateUserCommand(" ", "Pérez", "Calle 123 #45-67", new Birthday(LocalDate.of(1990, 5, 15)),
+                        new Email("sin.nombre@example.com"), new Salary(new BigDecimal("3000000")),
+                        "1234567890", "secreto", "USER"),
+                () -> new CreateUserCommand("Ana", "Gómez", "Carrera 7 #12-30", new Birthday(LocalDate.of(1992, 3, 10)),
+                        new Email("ana@example.com"), new Salary(new BigDecimal("2500000")),
+                        null, "secreto", "USER"),
+                () -> command("luis@example.com", "USER"));
+
+        StepVerifier.create(importUsersUseCase.importUsers(rows))
+                .assertNext(r -> {
+                    assertThat(r.status()).isEqualTo(UserImportResult.Status.INVALID);
+                    assertThat(r.error()).isEqualTo("El nombre es obligatorio");
+                })
+                .assertNext(r -> {
+                    assertThat(r.status()).isEqualTo(UserImportResult.Status.INVALID);
+                    assertThat(r.email()).isEqualTo("ana@example.com");
+                    assertThat(r.error()).isEqualTo("La identificación es obligatoria");
+                })
+                .assertNext(r -> assertThat(r.status()).isEqualTo(UserImportResult.Status.CREATED))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> batch = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).insertAllIfAbsent(batch.capture());
+        assertThat(batch.getValue()).extracting(u -> u.getEmail().value()).containsExactly("luis@example.com");
+    }
+
+    @Test
+    @DisplayName("shouldReportRowsOfAFailedBatchInsteadOfEndingTheImport")
+    void shouldReportRowsOfAFailedBatchInsteadOfEndingTheImport() {
+        when(passwordEncoder.encodeAsync("secreto")).thenReturn(Mono.just("hashed"));
+        when(userRepository.insertAllIfAbsent(anyList()))
+                .thenReturn(Flux.error(new IllegalStateException("null value in column violates not-null constraint")));
+
+        Flux<Supplier<CreateUserCommand>> rows = Flux.just(
+                () -> command("juan.perez@example.com", "USER"),
+                () -> command("luis@example.com", "GERENTE"));
+
+        StepVerifier.create(importUsersUseCase.importUsers(rows))
+                .assertNext(r -> {
+                    assertThat(r.status()).isEqualTo(UserImportResult.Status.INVALID);
+                    assertThat(r.error()).isEqualTo("No fue posible guardar el registro");
+                })
+                .assertNext(r -> assertThat(r.error()).isEqualTo("Rol inválido: GERENTE"))
+                .verifyComplete();
+    }
+}
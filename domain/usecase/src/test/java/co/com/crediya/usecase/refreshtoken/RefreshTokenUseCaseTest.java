@@ -0,0 +1,215 @@
+package co.com.crediya.usecase.refreshtoken;
+
+import co.com.crediya.model.refreshtoken.RefreshToken;
+import co.com.crediya.model.refreshtoken.exceptions.InvalidRefreshTokenException;
+import co.com.crediya.model.refreshtoken.gateways.RefreshTokenRepository;
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.gateways.UserRepository;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenUseCase Tests")
+class RefreshTokenUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration TTL = Duration.ofDays(7);
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenUseCase useCase;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RefreshTokenUseCase(refreshTokenRepository, userRepository, TTL,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        user = User.create(
+                UUID.randomUUID(),
+                "Juan",
+                "Pérez",
+                new Birthday(LocalDate.of(1990, 5, 15)),
+                "Calle 123 #45-67",
+                new Email("juan.perez@example.com"),
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "hashed",
+                UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("shouldIssueOpaqueTokenAndStoreOnlyItsHash")
+    void shouldIssueOpaqueTokenAndStoreOnlyItsHash() {
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        when(refreshTokenRepository.save(saved.capture())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+
+        String raw = useCase.issue(user).block();
+
+        assertThat(raw).hasSize(43).doesNotContain("=", "+", "/");
+        RefreshToken token = saved.getValue();
+        assertThat(token.getTokenHash()).isEqualTo(RefreshTokenUseCase.hash(raw)).hasSize(64).isNotEqualTo(raw);
+        assertThat(token.getUserId()).isEqualTo(user.getId());
+        assertThat(token.getFamilyId()).isNotNull();
+        assertThat(token.getExpiresAt()).isEqualTo(NOW.plus(TTL));
+    }
+
+    @Test
+    @DisplayName("shouldRotateTokenWithinSameFamily")
+    void shouldRotateTokenWithinSameFamily() {
+        UUID familyId = UUID.randomUUID();
+        String raw = "presented-token";
+        String hash = RefreshTokenUseCase.hash(raw);
+        when(refreshTokenRepository.findByTokenHash(hash)).thenReturn(Mono.just(stored(familyId, null)));
+        when(userRepository.findById(user.getId())).thenReturn(Mono.just(user));
+        ArgumentCaptor<String> nextHash = ArgumentCaptor.forClass(String.class);
+        when(refreshTokenRepository.rotate(eq(hash), nextHash.capture(), eq(NOW.plus(TTL))))
+                .thenAnswer(inv -> Mono.just(stored(familyId, null)));
+
+        StepVerifier.create(useCase.refresh(raw))
+                .assertNext(grant -> {
+                    assertThat(grant.user()).isSameAs(user);
+                    assertThat(grant.refreshToken()).isNotEqualTo(raw);
+                    assertThat(nextHash.getValue()).isEqualTo(RefreshTokenUseCase.hash(grant.refreshToken()));
+                })
+                .verifyComplete();
+
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("shouldNotRevokePresentedTokenWhenRotationFails")
+    void shouldNotRevokePresentedTokenWhenRotationFails() {
+        String hash = RefreshTokenUseCase.hash("presented-token");
+        when(refreshTokenRepository.findByTokenHash(hash)).thenReturn(Mono.just(stored(UUID.randomUUID(), null)));
+        when(userRepository.findById(user.getId())).thenReturn(Mono.just(user));
+        when(refreshTokenRepository.rotate(eq(hash), anyString(), any()))
+                .thenReturn(Mono.error(new IllegalStateException("connection reset")));
+
+        // La revocación y el insert van en la misma sentencia: el cliente puede reintentar con el mismo token
+        StepVerifier.create(useCase.refresh("presented-token"))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("shouldRevokeFamilyWhenRotatedTokenIsReused")
+    void shouldRevokeFamilyWhenRotatedTokenIsReused() {
+        UUID familyId = UUID.randomUUID();
+        String hash = RefreshTokenUseCase.hash("reused-token");
+        when(refreshTokenRepository.findByTokenHash(hash)).thenReturn(Mono.just(stored(familyId, NOW)));
+        when(refreshTokenRepository.revokeFamily(familyId)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(useCase.refresh("reused-token"))
+                .expectError(InvalidRefreshTokenException.class)
+                .verify();
+
+        verify(refreshTokenRepository).revokeFamily(familyId);
+        verify(refreshTokenRepository, never()).rotate(anyString(), anyString(), any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("shouldRevokeFamilyWhenConcurrentUseRotatedTheTokenFirst")
+    void shouldRevokeFamilyWhenConcurrentUseRotatedTheTokenFirst() {
+        UUID familyId = UUID.randomUUID();
+        String hash = RefreshTokenUseCase.hash("raced-token");
+        when(refreshTokenRepository.findByTokenHash(hash))
+                .thenReturn(Mono.just(stored(familyId, null)), Mono.just(stored(familyId, NOW)));
+        when(userRepository.findById(user.getId())).thenReturn(Mono.just(user));
+        when(refreshTokenRepository.rotate(eq(hash), anyString(), any())).thenReturn(Mono.empty());
+        when(refreshTokenRepository.revokeFamily(familyId)).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(useCase.refresh("raced-token"))
+                .expectError(InvalidRefreshTokenException.class)
+                .verify();
+
+        verify(refreshTokenRepository).revokeFamily(familyId);
+    }
+
+    @Test
+    @DisplayName("shouldRejectUnknownTokenWithoutRevoking")
+    void shouldRejectUnknownTokenWithoutRevoking() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.refresh("unknown-token"))
+                .expectError(InvalidRefreshTokenException.class)
+                .verify();
+
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("shouldRejectExpiredTokenWithoutRotating")
+    void shouldRejectExpiredTokenWithoutRotating() {
+        RefreshToken expired = stored(UUID.randomUUID(), null).toBuilder().expiresAt(NOW).build();
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Mono.just(expired));
+
+        StepVerifier.create(useCase.refresh("expired-token"))
+                .expectError(InvalidRefreshTokenException.class)
+                .verify();
+
+        verify(refreshTokenRepository, never()).rotate(anyString(), anyString(), any());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("shouldPurgeTokensExpiredBeforeTheGraceWindow")
+    void shouldPurgeTokensExpiredBeforeTheGraceWindow() {
+        when(refreshTokenRepository.deleteExpiredBefore(NOW.minus(Duration.ofDays(1)))).thenReturn(Mono.just(42L));
+
+        StepVerifier.create(useCase.purgeExpired(Duration.ofDays(1)))
+                .expectNext(42L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("shouldRejectBlankToken")
+    void shouldRejectBlankToken() {
+        StepVerifier.create(useCase.refresh(" "))
+                .expectError(InvalidRefreshTokenException.class)
+                .verify();
+    }
+
+    private RefreshToken stored(UUID familyId, Instant revokedAt) {
+        return RefreshToken.builder()
+                .id(UUID.randomUUID())
+                .userId(user.getId())
+                .familyId(familyId)
+                .tokenHash("hash")
+                .expiresAt(NOW.plus(TTL))
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
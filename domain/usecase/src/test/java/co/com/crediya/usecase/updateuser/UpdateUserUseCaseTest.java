@@ -17,7 +17,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +40,10 @@ class UpdateUserUseCaseTest {
                 new Birthday(LocalDate.of(1990, 5, 15)),
                 "Calle 123 #45-67",
                 new Email("juan.perez@example.com"),
-                new Salary(new BigDecimal("3000000"))
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "hashed",
+                UUID.randomUUID()
         );
 
         validEditCommand = new EditUserCommand(
@@ -59,11 +61,11 @@ class UpdateUserUseCaseTest {
         User updatedUser = existingUser.withAddressEmailSalary(
                 validEditCommand.address(),
                 validEditCommand.email(),
-                validEditCommand.baseSalary()
+                validEditCommand.baseSalary(),
+                existingUser.getIdentification()
         );
 
-        when(userRepository.findById(userId)).thenReturn(Mono.just(existingUser));
-        when(userRepository.saveUser(any(User.class))).thenReturn(Mono.just(updatedUser));
+        when(userRepository.updateContactInfo(userId, validEditCommand)).thenReturn(Mono.just(updatedUser));
 
 
         StepVerifier.create(updateUserUseCase.editUser(userId, validEditCommand))
@@ -76,7 +78,7 @@ class UpdateUserUseCaseTest {
     void shouldThrowExceptionWhenUserNotFoundById() {
 
         UUID userId = UUID.randomUUID();
-        when(userRepository.findById(userId)).thenReturn(Mono.empty());
+        when(userRepository.updateContactInfo(userId, validEditCommand)).thenReturn(Mono.empty());
 
         StepVerifier.create(updateUserUseCase.editUser(userId, validEditCommand))
                 .expectError(DomainValidationException.class)
@@ -91,16 +93,14 @@ class UpdateUserUseCaseTest {
         User updatedUser = existingUser.withAddressEmailSalary(
                 validEditCommand.address(),
                 validEditCommand.email(),
-                validEditCommand.baseSalary()
+                validEditCommand.baseSalary(),
+                existingUser.getIdentification()
         );
 
-        when(userRepository.findByEmail(email)).thenReturn(Mono.just(existingUser));
-        when(userRepository.saveUser(any(User.class))).thenReturn(Mono.just(updatedUser));
+        when(userRepository.updateContactInfoByEmail(email, validEditCommand)).thenReturn(Mono.just(updatedUser));
 
         StepVerifier.create(updateUserUseCase.editUserByEmail(email, validEditCommand))
                 .expectNext(updatedUser)
                 .verifyComplete();
     }
-
-
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package co.com.crediya.r2dbc;
+
+import co.com.crediya.r2dbc.entity.RefreshTokenEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RefreshTokenReactiveRepository extends ReactiveCrudRepository<RefreshTokenEntity, UUID> {
+
+    @Query("""
+            INSERT INTO refresh_token (user_id, family_id, token_hash, expires_at)
+            VALUES ($1, $2, $3, $4)
+            RETURNING *""")
+    Mono<RefreshTokenEntity> insert(UUID userId, UUID familyId, String tokenHash, Instant expiresAt);
+
+    // Rotación atómica: de dos usos concurrentes del mismo token solo uno obtiene la fila, y la
+    // revocación y el nuevo token se confirman o se descartan juntos al ser una sola sentencia
+    @Query("""
+            WITH consumed AS (
+                UPDATE refresh_token SET revoked_at = now()
+                WHERE token_hash = $1 AND revoked_at IS NULL AND expires_at > now()
+                RETURNING user_id, family_id
+            )
+            INSERT INTO refresh_token (user_id, family_id, token_hash, expires_at)
+            SELECT user_id, family_id, $2, $3 FROM consumed
+            RETURNING *""")
+    Mono<RefreshTokenEntity> rotate(String tokenHash, String nextTokenHash, Instant nextExpiresAt);
+
+    @Query("SELECT * FROM refresh_token WHERE token_hash = $1")
+    Mono<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("UPDATE refresh_token SET revoked_at = now() WHERE family_id = $1 AND revoked_at IS NULL")
+    Mono<Long> revokeFamily(UUID familyId);
+
+    @Modifying
+    @Query("DELETE FROM refresh_token WHERE expires_at < $1")
+    Mono<Long> deleteExpiredBefore(Instant cutoff);
+}
@@ -0,0 +1,50 @@
+package co.com.crediya.r2dbc;
+
+import co.com.crediya.model.refreshtoken.RefreshToken;
+import co.com.crediya.model.refreshtoken.gateways.RefreshTokenRepository;
+import co.com.crediya.r2dbc.mapper.RefreshTokenEntityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Cada operación es una sola sentencia: no necesita transacción
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
+
+    private final RefreshTokenReactiveRepository repository;
+    private final RefreshTokenEntityMapper mapper;
+
+    @Override
+    public Mono<RefreshToken> save(RefreshToken token) {
+        return repository.insert(token.getUserId(), token.getFamilyId(), token.getTokenHash(), token.getExpiresAt())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<RefreshToken> rotate(String tokenHash, String nextTokenHash, Instant nextExpiresAt) {
+        return repository.rotate(tokenHash, nextTokenHash, nextExpiresAt).map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<RefreshToken> findByTokenHash(String tokenHash) {
+        return repository.findByTokenHash(tokenHash).map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<Long> revokeFamily(UUID familyId) {
+        return repository.revokeFamily(familyId)
+                .doOnNext(revoked -> log.warn("Reutilización de refresh token: familia {} revocada ({} tokens)",
+                        familyId, revoked));
+    }
+
+    @Override
+    public Mono<Long> deleteExpiredBefore(Instant cutoff) {
+        return repository.deleteExpiredBefore(cutoff);
+    }
+}
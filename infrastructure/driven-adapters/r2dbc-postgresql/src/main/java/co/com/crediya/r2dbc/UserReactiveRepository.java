@@ -1,15 +1,60 @@
 package co.com.crediya.r2dbc;
 
 import co.com.crediya.r2dbc.entity.UserEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.UUID;
 
 public interface UserReactiveRepository extends ReactiveCrudRepository<UserEntity, UUID>, ReactiveQueryByExampleExecutor<UserEntity> {
+    // Toda búsqueda por email usa lower(email) para aprovechar ux_user_entity_email_lower
+    @Query("SELECT * FROM user_entity WHERE lower(email) = lower($1)")
     Mono<UserEntity> findByEmail(String email);
+
+    @Modifying
+    @Query("DELETE FROM user_entity WHERE lower(email) = lower($1)")
     Mono<Void> deleteByEmail(String email);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM user_entity WHERE lower(email) = lower($1))")
     Mono<Boolean> existsByEmail(String email);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM user_entity WHERE lower(email) = lower($1) AND id <> $2)")
     Mono<Boolean> existsByEmailAndIdNot(String email, UUID id);
+
+    @Query("""
+            INSERT INTO user_entity (name, last_name, birthday, address, email, base_salary, identification, password, rol)
+            VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9)
+            ON CONFLICT (lower(email)) DO NOTHING
+            RETURNING *""")
+    Mono<UserEntity> insertIfAbsent(String name, String lastName, LocalDate birthday, String address, String email,
+                                    BigDecimal baseSalary, String identification, String password, UUID rol);
+
+    // Las llaves deben llegar en minúsculas
+    @Query("SELECT * FROM user_entity WHERE lower(email) = ANY($1)")
+    Flux<UserEntity> findAllByEmailIn(String[] emails);
+
+    @Query("SELECT * FROM user_entity WHERE id = ANY($1)")
+    Flux<UserEntity> findAllByIdIn(UUID[] ids);
+
+    @Query("UPDATE user_entity SET address = $2, email = $3, base_salary = $4 WHERE id = $1 RETURNING *")
+    Mono<UserEntity> updateContactInfoById(UUID id, String address, String email, BigDecimal baseSalary);
+
+    @Query("UPDATE user_entity SET address = $2, email = $3, base_salary = $4 WHERE lower(email) = lower($1) RETURNING *")
+    Mono<UserEntity> updateContactInfoByEmail(String currentEmail, String address, String email, BigDecimal baseSalary);
+
+    @Modifying
+    @Query("DELETE FROM user_entity WHERE lower(email) = lower($1)")
+    Mono<Long> deleteByEmailReturningCount(String email);
+
+    @Query("SELECT * FROM user_entity ORDER BY id LIMIT $1")
+    Flux<UserEntity> findFirstPage(int limit);
+
+    @Query("SELECT * FROM user_entity WHERE id > $1 ORDER BY id LIMIT $2")
+    Flux<UserEntity> findPageAfter(UUID afterId, int limit);
 }
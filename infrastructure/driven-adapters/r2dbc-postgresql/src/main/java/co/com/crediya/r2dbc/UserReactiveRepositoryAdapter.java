@@ -1,119 +1,246 @@
 package co.com.crediya.r2dbc;
 
 import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.exceptions.DomainValidationException;
 import co.com.crediya.model.user.gateways.UserRepository;
+import co.com.crediya.model.user.valueobjects.EditUserCommand;
 import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.r2dbc.config.LookupBatchingProperties;
 import co.com.crediya.r2dbc.entity.UserEntity;
+import co.com.crediya.r2dbc.helper.LookupBatcher;
 import co.com.crediya.r2dbc.helper.UserReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.crediya.r2dbc.mapper.UserEntityMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
+// Cada operación es una sola sentencia en auto-commit: sin BEGIN/COMMIT alrededor de ella
 @Repository
 public class UserReactiveRepositoryAdapter extends UserReactiveAdapterOperations<
         User,
         UserEntity,
         UUID,
         UserReactiveRepository
-        > implements UserRepository {
-    public UserReactiveRepositoryAdapter(UserReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, User.class));
+        > implements UserRepository, DisposableBean {
+
+    private static final String INSERT_COLUMNS =
+            "INSERT INTO user_entity (name, last_name, birthday, address, email, base_salary, identification, password, rol) VALUES ";
+    private static final int INSERT_PARAMS = 9;
+    private static final String EMAIL_INDEX = "ux_user_entity_email_lower";
+    private static final String EMAIL_TAKEN_MSG = "El email ya está registrado";
+
+    private final R2dbcEntityTemplate template;
+    private final UserEntityMapper entityMapper;
+    private final LookupBatcher<String, User> emailLookups;
+    private final LookupBatcher<UUID, User> idLookups;
+
+    public UserReactiveRepositoryAdapter(UserReactiveRepository repository, UserEntityMapper entityMapper,
+                                         R2dbcEntityTemplate template, LookupBatchingProperties batching) {
+        super(repository, entityMapper::toEntity, entityMapper::toDomain);
+        this.template = template;
+        this.entityMapper = entityMapper;
+        int batchSize = batching.enabled() ? batching.maxBatchSize() : 1;
+        this.emailLookups = new LookupBatcher<>(
+                emails -> repository.findAllByEmailIn(emails.toArray(String[]::new)).map(this::toDomain),
+                user -> emailKey(user.getEmail()),
+                batchSize, batching.window());
+        this.idLookups = new LookupBatcher<>(
+                ids -> repository.findAllByIdIn(ids.toArray(UUID[]::new)).map(this::toDomain),
+                User::getId,
+                batchSize, batching.window());
     }
 
     @Override
-    @Transactional
     public Mono<User> saveUser(User user) {
         UserEntity entity = toEntity(user);
         return repository.save(entity).map(this::toDomain);
     }
 
     @Override
-    @Transactional
+    public Mono<User> insertIfAbsent(User user) {
+        UserEntity e = toEntity(user);
+        return repository.insertIfAbsent(
+                        e.getName(),
+                        e.getLastName(),
+                        e.getBirthday(),
+                        e.getAddress(),
+                        e.getEmail(),
+                        e.getBaseSalary(),
+                        e.getIdentification(),
+                        e.getPassword(),
+                        e.getRol())
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Flux<User> insertAllIfAbsent(List<User> users) {
+        if (users.isEmpty()) {
+            return Flux.empty();
+        }
+        StringBuilder sql = new StringBuilder(INSERT_COLUMNS);
+        for (int row = 0; row < users.size(); row++) {
+            sql.append(row == 0 ? "(" : ", (");
+            for (int col = 1; col <= INSERT_PARAMS; col++) {
+                sql.append(col == 1 ? "$" : ", $").append(row * INSERT_PARAMS + col);
+            }
+            sql.append(')');
+        }
+        sql.append(" ON CONFLICT (lower(email)) DO NOTHING RETURNING *");
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString());
+        int index = 0;
+        for (User user : users) {
+            UserEntity e = toEntity(user);
+            spec = bind(spec, index++, e.getName(), String.class);
+            spec = bind(spec, index++, e.getLastName(), String.class);
+            spec = bind(spec, index++, e.getBirthday(), LocalDate.class);
+            spec = bind(spec, index++, e.getAddress(), String.class);
+            spec = bind(spec, index++, e.getEmail(), String.class);
+            spec = bind(spec, index++, e.getBaseSalary(), BigDecimal.class);
+            spec = bind(spec, index++, e.getIdentification(), String.class);
+            spec = bind(spec, index++, e.getPassword(), String.class);
+            spec = bind(spec, index++, e.getRol(), UUID.class);
+        }
+        return spec.map((row, metadata) -> template.getConverter().read(UserEntity.class, row, metadata))
+                .all()
+                .map(this::toDomain);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, int index,
+                                                          Object value, Class<?> type) {
+        return value != null ? spec.bind(index, value) : spec.bindNull(index, type);
+    }
+
+    @Override
     public Mono<User> updateUser(User user) {
-        return repository.findById(user.getId())
-                .switchIfEmpty(Mono.error(new IllegalArgumentException("User not found: " + user.getId())))
-                .flatMap(existing -> {
-                    UserEntity e = toEntity(user);
-                    e.setId(existing.getId());
-                    return repository.save(e);
-                })
+        // save con id no nulo ya emite UPDATE ... WHERE id; si no afecta filas falla sin consultar antes
+        return repository.save(toEntity(user))
+                .onErrorMap(TransientDataAccessResourceException.class,
+                        e -> new IllegalArgumentException("User not found: " + user.getId(), e))
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Mono<User> updateContactInfo(UUID id, EditUserCommand command) {
+        return repository.updateContactInfoById(
+                        id,
+                        command.address(),
+                        command.email().value(),
+                        command.baseSalary().amount())
+                .onErrorMap(UserReactiveRepositoryAdapter::isEmailConflict,
+                        e -> new DomainValidationException(EMAIL_TAKEN_MSG))
                 .map(this::toDomain);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public Mono<User> updateContactInfoByEmail(Email email, EditUserCommand command) {
+        return repository.updateContactInfoByEmail(
+                        email.value(),
+                        command.address(),
+                        command.email().value(),
+                        command.baseSalary().amount())
+                .onErrorMap(UserReactiveRepositoryAdapter::isEmailConflict,
+                        e -> new DomainValidationException(EMAIL_TAKEN_MSG))
+                .map(this::toDomain);
+    }
+
+    // Búsquedas concurrentes comparten una consulta agrupada
+    @Override
     public Mono<User> findByEmail(Email email) {
-        return repository.findByEmail(email.value()).map(this::toDomain);
+        return emailLookups.load(emailKey(email));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Mono<User> findById(UUID id) {
-        return repository.findById(id).map(this::toDomain);
+        return idLookups.load(id);
+    }
+
+
+    @Override
+    public Flux<User> findAllByEmailIn(List<Email> emails) {
+        String[] keys = emails.stream().map(UserReactiveRepositoryAdapter::emailKey).distinct().toArray(String[]::new);
+        return repository.findAllByEmailIn(keys).map(this::toDomain);
     }
 
+    @Override
+    public Flux<User> findAllByIdIn(List<UUID> ids) {
+        return repository.findAllByIdIn(ids.toArray(UUID[]::new)).map(this::toDomain);
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public Flux<User> findAll() {
         return repository.findAll().map(this::toDomain);
     }
 
     @Override
-    @Transactional
+    public Flux<User> findPage(UUID afterId, int size) {
+        Flux<UserEntity> page = afterId == null
+                ? repository.findFirstPage(size)
+                : repository.findPageAfter(afterId, size);
+        return page.map(this::toDomain);
+    }
+
+    @Override
     public Mono<Void> delete(UUID id) {
         return repository.deleteById(id);
     }
 
     @Override
-    @Transactional
     public Mono<Void> deleteByEmail(Email email) {
         return repository.deleteByEmail(email.value());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public Mono<Long> deleteByEmailReturningCount(Email email) {
+        return repository.deleteByEmailReturningCount(email.value());
+    }
+
+    @Override
     public Mono<Boolean> existsByEmail(Email email) {
         return repository.existsByEmail(email.value());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Mono<Boolean> existsByEmailAndId(Email email, UUID id) {
         return repository.existsByEmailAndIdNot(email.value(), id);
     }
 
+    // Cambiar el email a uno de otro usuario viola el índice único: es un error del cliente, no del servidor
+    private static boolean isEmailConflict(Throwable e) {
+        if (!(e instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.contains(EMAIL_INDEX);
+    }
+
+    @Override
+    public void destroy() {
+        emailLookups.dispose();
+        idLookups.dispose();
+    }
+
+    private static String emailKey(Email email) {
+        return email.value().toLowerCase(Locale.ROOT);
+    }
+
     private UserEntity toEntity(User user) {
-        UserEntity e = new UserEntity();
-        e.setId(user.getId() != null ? user.getId() : null);
-        e.setName(user.getName());
-        e.setLastName(user.getLastName());
-        e.setBirthday(user.getBirthday().value());
-        e.setAddress(user.getAddress());
-        e.setEmail(user.getEmail().value());
-        e.setBaseSalary(user.getBaseSalary().amount());
-        e.setIdentification(user.getIdentification());
-        e.setPassword(user.getPassword());
-        e.setRol(user.getRol());
-        return e;
+        return entityMapper.toEntity(user);
     }
 
     private User toDomain(UserEntity e) {
-        return new User(
-                e.getId() != null ? e.getId() : null,
-                e.getName(),
-                e.getLastName(),
-                new co.com.crediya.model.user.valueobjects.Birthday(e.getBirthday()),
-                e.getAddress(),
-                new co.com.crediya.model.user.valueobjects.Email(e.getEmail()),
-                new co.com.crediya.model.user.valueobjects.Salary(e.getBaseSalary()),
-                e.getIdentification(),
-                e.getPassword(),
-                e.getRol()
-        );
+        return entityMapper.toDomain(e);
     }
 }
@@ -0,0 +1,192 @@
+package co.com.crediya.r2dbc.cache;
+
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.gateways.UserRepository;
+import co.com.crediya.model.user.valueobjects.EditUserCommand;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.r2dbc.UserReactiveRepositoryAdapter;
+import co.com.crediya.r2dbc.config.UserCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cache de lectura delante del adaptador R2DBC, indexada por id y por email.
+ * Los misses concurrentes de una misma llave comparten la misma consulta y toda
+ * escritura invalida las entradas del usuario afectado en ambos índices.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "adapters.r2dbc.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingUserRepository implements UserRepository {
+
+    private final UserReactiveRepositoryAdapter delegate;
+    private final AsyncCache<UUID, User> byId;
+    private final AsyncCache<String, User> byEmail;
+
+    public CachingUserRepository(UserReactiveRepositoryAdapter delegate,
+                                 UserCacheProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.byId = newCache(properties);
+        this.byEmail = newCache(properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId.synchronous(), "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail.synchronous(), "users.by-email");
+    }
+
+    private static <K> AsyncCache<K, User> newCache(UserCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public Mono<User> findByEmail(Email email) {
+        return Mono.defer(() -> Mono.fromFuture(byEmail.get(emailKey(email), (key, executor) ->
+                delegate.findByEmail(email)
+                        .doOnNext(user -> byId.put(user.getId(), CompletableFuture.completedFuture(user)))
+                        .toFuture()), true));
+    }
+
+    @Override
+    public Mono<User> findById(UUID id) {
+        return Mono.defer(() -> Mono.fromFuture(byId.get(id, (key, executor) ->
+                delegate.findById(id)
+                        .doOnNext(user -> byEmail.put(emailKey(user.getEmail()), CompletableFuture.completedFuture(user)))
+                        .toFuture()), true));
+    }
+
+    @Override
+    public Mono<User> saveUser(User user) {
+        return evictAround(() -> delegate.saveUser(user), user.getId(), user.getEmail());
+    }
+
+    @Override
+    public Mono<User> insertIfAbsent(User user) {
+        return evictAround(() -> delegate.insertIfAbsent(user), null, user.getEmail());
+    }
+
+    @Override
+    public Flux<User> insertAllIfAbsent(List<User> users) {
+        Email[] emails = users.stream().map(User::getEmail).toArray(Email[]::new);
+        return delegate.insertAllIfAbsent(users).doFinally(signal -> evict(null, emails));
+    }
+
+    @Override
+    public Mono<User> updateUser(User user) {
+        return evictAround(() -> delegate.updateUser(user), user.getId(), user.getEmail());
+    }
+
+    @Override
+    public Mono<User> updateContactInfo(UUID id, EditUserCommand command) {
+        return evictAround(() -> delegate.updateContactInfo(id, command), id, command.email());
+    }
+
+    @Override
+    public Mono<User> updateContactInfoByEmail(Email email, EditUserCommand command) {
+        return evictAround(() -> delegate.updateContactInfoByEmail(email, command), null, email, command.email());
+    }
+
+    @Override
+    public Mono<Void> delete(UUID id) {
+        return evictAround(() -> delegate.delete(id), id);
+    }
+
+    @Override
+    public Mono<Void> deleteByEmail(Email email) {
+        return evictAround(() -> delegate.deleteByEmail(email), null, email);
+    }
+
+    @Override
+    public Mono<Long> deleteByEmailReturningCount(Email email) {
+        return evictAround(() -> delegate.deleteByEmailReturningCount(email), null, email);
+    }
+
+    @Override
+    public Flux<User> findAllByEmailIn(List<Email> emails) {
+        return delegate.findAllByEmailIn(emails);
+    }
+
+    @Override
+    public Flux<User> findAllByIdIn(List<UUID> ids) {
+        return delegate.findAllByIdIn(ids);
+    }
+
+    @Override
+    public Flux<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<User> findPage(UUID afterId, int size) {
+        return delegate.findPage(afterId, size);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmailAndId(Email email, UUID id) {
+        return delegate.existsByEmailAndId(email, id);
+    }
+
+    // Se invalida antes y después de escribir: la segunda pasada descarta lecturas que
+    // quedaron en vuelo con el valor anterior mientras se ejecutaba la escritura
+    private <T> Mono<T> evictAround(Supplier<Mono<T>> write, UUID id, Email... emails) {
+        return Mono.defer(() -> {
+            evict(id, emails);
+            return write.get();
+        }).doOnNext(result -> {
+            if (result instanceof User written) {
+                evict(written.getId(), written.getEmail());
+            }
+        }).doFinally(signal -> evict(id, emails));
+    }
+
+    // Cada índice puede tener al usuario bajo la otra llave: se toma la entrada antes de
+    // invalidarla para descartar también la del otro índice, sin recorrer la cache
+    private void evict(UUID id, Email... emails) {
+        if (id != null) {
+            evictOther(byId.getIfPresent(id), user -> byEmail.synchronous().invalidate(emailKey(user.getEmail())));
+            byId.synchronous().invalidate(id);
+        }
+        for (Email email : emails) {
+            String key = emailKey(email);
+            evictOther(byEmail.getIfPresent(key), user -> byId.synchronous().invalidate(user.getId()));
+            byEmail.synchronous().invalidate(key);
+        }
+    }
+
+    // Si la carga sigue en vuelo la llave del otro índice se descarta al completarse
+    private static void evictOther(CompletableFuture<User> entry, Consumer<User> invalidate) {
+        if (entry != null) {
+            entry.thenAccept(user -> {
+                if (user != null) {
+                    invalidate.accept(user);
+                }
+            });
+        }
+    }
+
+    // El email es único sin distinguir mayúsculas, igual que el índice en base de datos
+    private static String emailKey(Email email) {
+        return email.value().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,24 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.lookup-batching")
+public record LookupBatchingProperties(
+        Boolean enabled,
+        Integer maxBatchSize,
+        Duration window
+) {
+    public LookupBatchingProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maxBatchSize == null || maxBatchSize < 1) {
+            maxBatchSize = 64;
+        }
+        if (window == null) {
+            window = Duration.ofMillis(2);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package co.com.crediya.r2dbc.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.pool.PoolMetricsRecorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica en Micrometer las latencias del pool de conexiones. Los gauges de conexiones
+ * adquiridas, ociosas y pendientes (r2dbc.pool.*) los registra Spring Boot Actuator.
+ */
+class MicrometerPoolMetricsRecorder implements PoolMetricsRecorder {
+
+    private static final String PREFIX = "r2dbc.pool";
+    private static final String POOL_TAG = "pool";
+
+    private final Timer acquireSuccess;
+    private final Timer acquireFailure;
+    private final Timer allocationSuccess;
+    private final Timer allocationFailure;
+    private final Timer resetLatency;
+    private final Timer destroyLatency;
+    private final Timer lifetime;
+    private final Timer idleTime;
+    private final Counter recycled;
+    private final Counter fastPath;
+    private final Counter slowPath;
+
+    MicrometerPoolMetricsRecorder(MeterRegistry registry, String poolName) {
+        this.acquireSuccess = timer(registry, poolName, "acquire", "success",
+                "Tiempo de espera para obtener una conexión");
+        this.acquireFailure = timer(registry, poolName, "acquire", "failure",
+                "Tiempo de espera de adquisiciones fallidas o expiradas");
+        this.allocationSuccess = timer(registry, poolName, "allocation", "success",
+                "Tiempo de apertura de nuevas conexiones");
+        this.allocationFailure = timer(registry, poolName, "allocation", "failure",
+                "Tiempo de aperturas de conexión fallidas");
+        this.resetLatency = Timer.builder(PREFIX + ".reset").tag(POOL_TAG, poolName).register(registry);
+        this.destroyLatency = Timer.builder(PREFIX + ".destroy").tag(POOL_TAG, poolName).register(registry);
+        this.lifetime = Timer.builder(PREFIX + ".lifetime").tag(POOL_TAG, poolName).register(registry);
+        this.idleTime = Timer.builder(PREFIX + ".idle.time").tag(POOL_TAG, poolName).register(registry);
+        this.recycled = Counter.builder(PREFIX + ".recycled").tag(POOL_TAG, poolName).register(registry);
+        this.fastPath = Counter.builder(PREFIX + ".acquire.path").tag(POOL_TAG, poolName).tag("path", "fast")
+                .register(registry);
+        this.slowPath = Counter.builder(PREFIX + ".acquire.path").tag(POOL_TAG, poolName).tag("path", "slow")
+                .register(registry);
+    }
+
+    private static Timer timer(MeterRegistry registry, String poolName, String name, String outcome,
+                               String description) {
+        return Timer.builder(PREFIX + "." + name)
+                .description(description)
+                .tag(POOL_TAG, poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public void recordPendingSuccessAndLatency(long latencyMs) {
+        acquireSuccess.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordPendingFailureAndLatency(long latencyMs) {
+        acquireFailure.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllocationSuccessAndLatency(long latencyMs) {
+        allocationSuccess.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllocationFailureAndLatency(long latencyMs) {
+        allocationFailure.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordResetLatency(long latencyMs) {
+        resetLatency.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordDestroyLatency(long latencyMs) {
+        destroyLatency.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordRecycled() {
+        recycled.increment();
+    }
+
+    @Override
+    public void recordLifetimeDuration(long millisecondsSinceAllocation) {
+        lifetime.record(millisecondsSinceAllocation, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordIdleTime(long millisecondsIdle) {
+        idleTime.record(millisecondsIdle, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordSlowPath() {
+        slowPath.increment();
+    }
+
+    @Override
+    public void recordFastPath() {
+        fastPath.increment();
+    }
+}
@@ -1,24 +1,21 @@
 package co.com.crediya.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
+    public static final String POOL_NAME = "api-postgres-connection-pool";
     public static final int DEFAULT_PORT = 5432;
 
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties, MeterRegistry meterRegistry) {
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
@@ -28,15 +25,28 @@ public class PostgreSQLConnectionPool {
                 .password(properties.password())
                 .build();
 
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
+        PostgresqlConnectionProperties.Pool pool = properties.pool();
+        MicrometerPoolMetricsRecorder metricsRecorder = new MicrometerPoolMetricsRecorder(meterRegistry, POOL_NAME);
+
+        ConnectionPoolConfiguration.Builder poolConfiguration = ConnectionPoolConfiguration.builder()
                 .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
-                .build();
+                .name(POOL_NAME)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.acquireTimeout())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .validationDepth(pool.validationDepth())
+                .customizer(builder -> builder
+                        .maxPendingAcquire(pool.maxPendingAcquire())
+                        .metricsRecorder(metricsRecorder));
+
+        // LOCAL usa el estado de la conexión; solo REMOTE necesita ida y vuelta al servidor
+        if (pool.validationDepth() == ValidationDepth.REMOTE) {
+            poolConfiguration.validationQuery("SELECT 1");
+        }
 
-		return new ConnectionPool(poolConfiguration);
+		return new ConnectionPool(poolConfiguration.build());
 	}
-}
\ No newline at end of file
+}
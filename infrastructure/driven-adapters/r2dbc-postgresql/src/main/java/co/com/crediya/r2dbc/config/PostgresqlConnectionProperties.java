@@ -1,8 +1,11 @@
 package co.com.crediya.r2dbc.config;
 
 // TODO: Load properties from the application.yaml file or from secrets manager
+ import io.r2dbc.spi.ValidationDepth;
  import org.springframework.boot.context.properties.ConfigurationProperties;
 
+ import java.time.Duration;
+
  @ConfigurationProperties(prefix = "adapters.r2dbc")
 public record PostgresqlConnectionProperties(
         String host,
@@ -10,5 +13,55 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
+        String password,
+        Pool pool) {
+
+    public PostgresqlConnectionProperties {
+        if (pool == null) {
+            pool = new Pool(null, null, null, null, null, null, null, null);
+        }
+    }
+
+    /**
+     * Parámetros del pool. Sin configuración, el tamaño se deriva de los núcleos disponibles
+     * y la validación se hace a nivel de conexión (LOCAL), sin ida y vuelta a Postgres.
+     */
+    public record Pool(
+            Integer initialSize,
+            Integer maxSize,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration acquireTimeout,
+            Duration backgroundEvictionInterval,
+            ValidationDepth validationDepth,
+            Integer maxPendingAcquire) {
+
+        public Pool {
+            if (maxSize == null || maxSize < 1) {
+                maxSize = Runtime.getRuntime().availableProcessors() * 2;
+            }
+            if (initialSize == null || initialSize < 1) {
+                initialSize = Math.max(1, maxSize / 2);
+            }
+            initialSize = Math.min(initialSize, maxSize);
+            if (maxIdleTime == null) {
+                maxIdleTime = Duration.ofMinutes(30);
+            }
+            if (maxLifeTime == null) {
+                maxLifeTime = Duration.ofHours(1);
+            }
+            if (acquireTimeout == null) {
+                acquireTimeout = Duration.ofSeconds(5);
+            }
+            if (backgroundEvictionInterval == null) {
+                backgroundEvictionInterval = Duration.ofSeconds(30);
+            }
+            if (validationDepth == null) {
+                validationDepth = ValidationDepth.LOCAL;
+            }
+            if (maxPendingAcquire == null || maxPendingAcquire < 1) {
+                maxPendingAcquire = maxSize * 32;
+            }
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package co.com.crediya.r2dbc.config;
+
+import co.com.crediya.r2dbc.RefreshTokenReactiveRepository;
+import co.com.crediya.r2dbc.UserReactiveRepository;
+import co.com.crediya.r2dbc.instrumentation.QueryMetricsListener;
+import co.com.crediya.r2dbc.instrumentation.QueryNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// El pool sigue siendo el bean que se cierra al apagar; el proxy solo observa las sentencias
+@Configuration
+@ConditionalOnProperty(prefix = "adapters.r2dbc.instrumentation", name = "enabled", matchIfMissing = true)
+public class R2dbcInstrumentationConfig {
+
+    @Bean
+    @Primary
+    public ConnectionFactory instrumentedConnectionFactory(ConnectionPool connectionPool,
+                                                           MeterRegistry meterRegistry,
+                                                           R2dbcInstrumentationProperties properties,
+                                                           QueryNames queryNames,
+                                                           ObjectProvider<ProxyExecutionListener> extraListeners) {
+        ProxyConnectionFactory.Builder builder = ProxyConnectionFactory.builder(connectionPool)
+                .listener(new QueryMetricsListener(meterRegistry, queryNames,
+                        properties.slowQueryThreshold(), properties.slowQuerySampleRate()));
+        // Listeners adicionales registrados como beans, p. ej. el contador de sentencias de las pruebas
+        extraListeners.orderedStream().forEach(builder::listener);
+        return builder.build();
+    }
+
+    @Bean
+    public QueryNames queryNames() {
+        return new QueryNames(UserReactiveRepository.class, RefreshTokenReactiveRepository.class);
+    }
+}
@@ -0,0 +1,24 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.instrumentation")
+public record R2dbcInstrumentationProperties(
+        Boolean enabled,
+        Duration slowQueryThreshold,
+        Double slowQuerySampleRate
+) {
+    public R2dbcInstrumentationProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (slowQueryThreshold == null || slowQueryThreshold.isNegative()) {
+            slowQueryThreshold = Duration.ofMillis(200);
+        }
+        if (slowQuerySampleRate == null || slowQuerySampleRate < 0 || slowQuerySampleRate > 1) {
+            slowQuerySampleRate = 1.0;
+        }
+    }
+}
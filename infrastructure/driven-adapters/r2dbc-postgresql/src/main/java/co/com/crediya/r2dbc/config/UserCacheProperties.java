@@ -0,0 +1,24 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.cache")
+public record UserCacheProperties(
+        Boolean enabled,
+        Long maxSize,
+        Duration ttl
+) {
+    public UserCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maxSize == null || maxSize < 1) {
+            maxSize = 10_000L;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.crediya.r2dbc.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Table(name = "refresh_token")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RefreshTokenEntity {
+    @Id
+    private UUID id;
+
+    @Column("user_id")
+    private UUID userId;
+
+    @Column("family_id")
+    private UUID familyId;
+
+    @Column("token_hash")
+    private String tokenHash;
+
+    @Column("expires_at")
+    private Instant expiresAt;
+
+    @Column("revoked_at")
+    private Instant revokedAt;
+}
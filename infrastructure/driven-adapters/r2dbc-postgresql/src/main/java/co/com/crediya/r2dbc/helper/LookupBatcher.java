@@ -0,0 +1,124 @@
+package co.com.crediya.r2dbc.helper;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Deduplica búsquedas concurrentes por la misma llave y agrupa llaves distintas que llegan
+ * dentro de una ventana corta en una sola consulta. Los suscriptores de una misma llave
+ * comparten el resultado mientras la consulta está en vuelo; nada se guarda después.
+ */
+@Slf4j
+public class LookupBatcher<K, V> implements Disposable {
+
+    // Igual al tamaño por defecto del pool: más lotes en vuelo solo esperarían una conexión
+    private static final int MAX_CONCURRENT_BATCHES = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final Function<List<K>, Flux<V>> batchQuery;
+    private final Function<V, K> keyOf;
+    private final Map<K, Sinks.One<V>> inFlight = new ConcurrentHashMap<>();
+    private final Disposable pipeline;
+    // Sink serializado de Flux.create: admite varios hilos encolando a la vez sin reintentos
+    private volatile FluxSink<Pending<K, V>> requests;
+    private volatile boolean disposed;
+
+    public LookupBatcher(Function<List<K>, Flux<V>> batchQuery, Function<V, K> keyOf,
+                         int maxBatchSize, Duration window) {
+        this.batchQuery = batchQuery;
+        this.keyOf = keyOf;
+        Flux<Pending<K, V>> pending = Flux.create(sink -> this.requests = sink);
+        // Con backpressure justo los lotes esperan en la cola mientras no haya demanda, en
+        // lugar de fallar cuando todos los lotes en vuelo están ocupados
+        Flux<List<Pending<K, V>>> batches = window.isZero() || maxBatchSize == 1
+                ? pending.map(List::of)
+                : pending.bufferTimeout(maxBatchSize, window, true);
+        this.pipeline = batches.flatMap(this::execute, MAX_CONCURRENT_BATCHES)
+                .doOnError(e -> {
+                    log.error("El agrupador de búsquedas falló y se reinicia: {}", e.getMessage());
+                    failPending(e);
+                })
+                .retry()
+                .doOnCancel(() -> failPending(closed()))
+                .subscribe();
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.defer(() -> {
+            if (disposed) {
+                return Mono.error(closed());
+            }
+            Sinks.One<V> sink = Sinks.one();
+            Sinks.One<V> existing = inFlight.putIfAbsent(key, sink);
+            if (existing != null) {
+                return existing.asMono();
+            }
+            FluxSink<Pending<K, V>> target = requests;
+            target.next(new Pending<>(key, sink));
+            // Si el pipeline terminó mientras se encolaba, la llave no se ejecutaría nunca
+            if (target.isCancelled()) {
+                fail(key, sink, disposed ? closed() : new IllegalStateException("El agrupador de búsquedas se reinició"));
+            }
+            return sink.asMono();
+        });
+    }
+
+    private Mono<Void> execute(List<Pending<K, V>> batch) {
+        List<K> keys = batch.stream().map(Pending::key).toList();
+        return Mono.defer(() -> batchQuery.apply(keys).collectMap(keyOf))
+                .doOnNext(found -> batch.forEach(p -> complete(p, found.get(p.key()))))
+                .doOnError(e -> {
+                    log.warn("Falló la consulta agrupada de {} llaves: {}", keys.size(), e.getMessage());
+                    batch.forEach(p -> fail(p.key(), p.sink(), e));
+                })
+                .onErrorComplete()
+                .then();
+    }
+
+    private void complete(Pending<K, V> pending, V value) {
+        // Se libera la llave antes de emitir para que una nueva búsqueda vea datos frescos
+        inFlight.remove(pending.key(), pending.sink());
+        if (value != null) {
+            pending.sink().tryEmitValue(value);
+        } else {
+            pending.sink().tryEmitEmpty();
+        }
+    }
+
+    private void fail(K key, Sinks.One<V> sink, Throwable error) {
+        inFlight.remove(key, sink);
+        sink.tryEmitError(error);
+    }
+
+    // Las llaves encoladas en un pipeline que terminó no se resolverían nunca
+    private void failPending(Throwable error) {
+        inFlight.forEach((key, sink) -> fail(key, sink, error));
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        pipeline.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("El agrupador de búsquedas está cerrado");
+    }
+
+    private record Pending<K, V>(K key, Sinks.One<V> sink) {
+    }
+}
@@ -0,0 +1,117 @@
+package co.com.crediya.r2dbc.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Métricas por sentencia (r2dbc.query, r2dbc.query.rows) y round trips de transacción
+ * (r2dbc.transaction). Las consultas por encima del umbral se registran de forma muestreada
+ * y sin los valores de los parámetros, solo su tipo.
+ */
+@Slf4j
+public class QueryMetricsListener implements ProxyExecutionListener {
+
+    private static final Set<String> TRANSACTION_METHODS =
+            Set.of("beginTransaction", "commitTransaction", "rollbackTransaction");
+
+    private final MeterRegistry meterRegistry;
+    private final QueryNames queryNames;
+    private final long slowQueryNanos;
+    private final double sampleRate;
+    private final Map<String, QueryMeters> meters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> transactions = new ConcurrentHashMap<>();
+
+    public QueryMetricsListener(MeterRegistry meterRegistry, QueryNames queryNames,
+                                Duration slowQueryThreshold, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.queryNames = queryNames;
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo info) {
+        if (info.getQueries().isEmpty()) {
+            return;
+        }
+        String sql = info.getQueries().get(0).getQuery();
+        String name = queryNames.nameOf(sql);
+        String outcome = info.isSuccess() ? "success" : "error";
+        Duration elapsed = info.getExecuteDuration();
+
+        QueryMeters queryMeters = meters.computeIfAbsent(name, this::register);
+        (info.isSuccess() ? queryMeters.success() : queryMeters.error()).record(elapsed);
+        queryMeters.rows().record(info.getCurrentResultCount());
+
+        if (elapsed.toNanos() >= slowQueryNanos && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.warn("Consulta lenta {}: {} ms, filas={}, resultado={}, sql=[{}], parámetros={}",
+                    name, elapsed.toMillis(), info.getCurrentResultCount(), outcome, sql, redactedBindings(info));
+        }
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionInfo info) {
+        String method = info.getMethod().getName();
+        if (TRANSACTION_METHODS.contains(method)) {
+            transactions.computeIfAbsent(method, m -> Counter.builder("r2dbc.transaction")
+                            .description("Sentencias de demarcación de transacción enviadas")
+                            .tag("operation", m.replace("Transaction", ""))
+                            .register(meterRegistry))
+                    .increment();
+        }
+    }
+
+    private QueryMeters register(String name) {
+        return new QueryMeters(timer(name, "success"), timer(name, "error"),
+                DistributionSummary.builder("r2dbc.query.rows")
+                        .description("Filas leídas por sentencia")
+                        .tag("query", name)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String name, String outcome) {
+        return Timer.builder("r2dbc.query")
+                .description("Duración de cada sentencia R2DBC")
+                .tag("query", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String redactedBindings(QueryExecutionInfo info) {
+        return info.getQueries().stream()
+                .map(QueryInfo::getBindingsList)
+                .flatMap(List::stream)
+                .map(bindings -> bindings.getIndexBindings().stream()
+                        .map(QueryMetricsListener::redact)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String redact(Binding binding) {
+        BoundValue value = binding.getBoundValue();
+        String type = value.isNull()
+                ? "null"
+                : "<" + value.getValue().getClass().getSimpleName() + ">";
+        return "$" + (((Number) binding.getKey()).intValue() + 1) + "=" + type;
+    }
+
+    private record QueryMeters(Timer success, Timer error, DistributionSummary rows) {
+    }
+}
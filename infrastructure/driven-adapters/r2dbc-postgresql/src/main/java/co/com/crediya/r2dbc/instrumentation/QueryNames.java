@@ -0,0 +1,65 @@
+package co.com.crediya.r2dbc.instrumentation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.r2dbc.repository.Query;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Nombre de baja cardinalidad para una sentencia SQL. Las declaradas con {@link Query} toman el
+ * nombre del método del repositorio; las generadas por Spring Data quedan como verbo:tabla.
+ */
+public final class QueryNames {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TABLE = Pattern.compile(
+            "\\b(?:FROM|INTO|UPDATE)\\s+\"?([A-Za-z_][A-Za-z0-9_.]*)\"?", Pattern.CASE_INSENSITIVE);
+    private static final String OTHER = "other";
+
+    private final Map<String, String> declared;
+    // Acotado: el INSERT multi-fila genera un texto distinto por tamaño de lote
+    private final Cache<String, String> resolved = Caffeine.newBuilder().maximumSize(1_000).build();
+
+    public QueryNames(Class<?>... repositories) {
+        Map<String, String> names = new HashMap<>();
+        for (Class<?> repository : repositories) {
+            for (Method method : repository.getMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query != null) {
+                    names.putIfAbsent(normalize(query.value()), method.getName());
+                }
+            }
+        }
+        this.declared = Map.copyOf(names);
+    }
+
+    public String nameOf(String sql) {
+        return resolved.get(sql, this::resolve);
+    }
+
+    private String resolve(String sql) {
+        String normalized = normalize(sql);
+        String name = declared.get(normalized);
+        return name != null ? name : fallback(normalized);
+    }
+
+    private static String fallback(String sql) {
+        int space = sql.indexOf(' ');
+        String verb = (space < 0 ? sql : sql.substring(0, space)).toLowerCase(Locale.ROOT);
+        Matcher table = TABLE.matcher(sql);
+        if (verb.isEmpty()) {
+            return OTHER;
+        }
+        return table.find() ? verb + ":" + table.group(1).toLowerCase(Locale.ROOT) : verb;
+    }
+
+    private static String normalize(String sql) {
+        return WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    }
+}
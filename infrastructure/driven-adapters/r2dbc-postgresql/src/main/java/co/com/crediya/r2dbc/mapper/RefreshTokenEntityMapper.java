@@ -0,0 +1,13 @@
+package co.com.crediya.r2dbc.mapper;
+
+import co.com.crediya.model.refreshtoken.RefreshToken;
+import co.com.crediya.r2dbc.entity.RefreshTokenEntity;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface RefreshTokenEntityMapper {
+
+    RefreshTokenEntity toEntity(RefreshToken token);
+
+    RefreshToken toDomain(RefreshTokenEntity entity);
+}
@@ -0,0 +1,47 @@
+package co.com.crediya.r2dbc.mapper;
+
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import co.com.crediya.r2dbc.entity.UserEntity;
+import org.mapstruct.Mapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Mapeo generado en compilación entre la fila y el dominio. Al leer de la base los value
+ * objects se rehidratan sin revalidar: los datos ya pasaron las reglas al escribirse.
+ */
+@Mapper(componentModel = "spring")
+public interface UserEntityMapper {
+
+    UserEntity toEntity(User user);
+
+    User toDomain(UserEntity entity);
+
+    default String fromEmail(Email email) {
+        return email != null ? email.value() : null;
+    }
+
+    default BigDecimal fromSalary(Salary salary) {
+        return salary != null ? salary.amount() : null;
+    }
+
+    default LocalDate fromBirthday(Birthday birthday) {
+        return birthday != null ? birthday.value() : null;
+    }
+
+    default Email toEmail(String value) {
+        return value != null ? Email.fromTrusted(value) : null;
+    }
+
+    default Salary toSalary(BigDecimal amount) {
+        return amount != null ? Salary.fromTrusted(amount) : null;
+    }
+
+    default Birthday toBirthday(LocalDate value) {
+        return value != null ? Birthday.fromTrusted(value) : null;
+    }
+}
@@ -0,0 +1,19 @@
+-- Esquema base. IF NOT EXISTS para bases creadas antes de versionar las migraciones.
+CREATE TABLE IF NOT EXISTS rol (
+    id          UUID PRIMARY KEY,
+    name        VARCHAR(30) NOT NULL UNIQUE,
+    description VARCHAR(200)
+);
+
+CREATE TABLE IF NOT EXISTS user_entity (
+    id             UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name           VARCHAR(50)    NOT NULL,
+    last_name      VARCHAR(50)    NOT NULL,
+    birthday       DATE           NOT NULL,
+    address        VARCHAR(200)   NOT NULL,
+    email          VARCHAR(254)   NOT NULL,
+    base_salary    NUMERIC(15, 2) NOT NULL,
+    identification VARCHAR(30),
+    password       VARCHAR(100),
+    rol            UUID
+);
@@ -0,0 +1,20 @@
+-- Roles conocidos por la aplicación (ver RolName)
+INSERT INTO rol (id, name, description) VALUES
+    ('b34c1721-c4c2-42da-907c-aed4cd00788c', 'ADMIN', 'Administrador'),
+    ('4595846d-823f-466a-9ac9-b9707c27dd18', 'USER', 'Cliente'),
+    ('51688f39-44c2-4216-a0aa-bd0351b79dd0', 'ASESOR', 'Asesor')
+ON CONFLICT (id) DO NOTHING;
+
+-- Email único sin distinguir mayúsculas; todas las consultas por email filtran por lower(email)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_entity_email_lower ON user_entity (lower(email));
+
+CREATE INDEX IF NOT EXISTS ix_user_entity_rol ON user_entity (rol);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_user_entity_rol') THEN
+        ALTER TABLE user_entity
+            ADD CONSTRAINT fk_user_entity_rol FOREIGN KEY (rol) REFERENCES rol (id);
+    END IF;
+END
+$$;
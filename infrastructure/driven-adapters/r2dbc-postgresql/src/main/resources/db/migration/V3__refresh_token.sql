@@ -0,0 +1,17 @@
+-- Refresh tokens opacos: solo se guarda el hash SHA-256 (hex) del valor entregado al cliente
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id          UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id     UUID        NOT NULL REFERENCES user_entity (id) ON DELETE CASCADE,
+    family_id   UUID        NOT NULL,
+    token_hash  CHAR(64)    NOT NULL,
+    expires_at  TIMESTAMPTZ NOT NULL,
+    revoked_at  TIMESTAMPTZ,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_refresh_token_hash ON refresh_token (token_hash);
+
+-- Revocación de la familia ante reutilización; solo interesan los vigentes
+CREATE INDEX IF NOT EXISTS ix_refresh_token_family_active ON refresh_token (family_id) WHERE revoked_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS ix_refresh_token_user ON refresh_token (user_id);
@@ -0,0 +1,2 @@
+-- Purga periódica de tokens vencidos (RefreshTokenPurgeJob): DELETE por rango de expires_at
+CREATE INDEX IF NOT EXISTS ix_refresh_token_expires_at ON refresh_token (expires_at);
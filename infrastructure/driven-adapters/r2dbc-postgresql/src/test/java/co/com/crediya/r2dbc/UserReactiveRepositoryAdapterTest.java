@@ -0,0 +1,98 @@
+package co.com.crediya.r2dbc;
+
+import co.com.crediya.model.user.exceptions.DomainValidationException;
+import co.com.crediya.model.user.valueobjects.EditUserCommand;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import co.com.crediya.r2dbc.config.LookupBatchingProperties;
+import co.com.crediya.r2dbc.mapper.UserEntityMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserReactiveRepositoryAdapter Tests")
+class UserReactiveRepositoryAdapterTest {
+
+    private static final String EMAIL_CONFLICT =
+            "duplicate key value violates unique constraint \"ux_user_entity_email_lower\"";
+
+    @Mock
+    private UserReactiveRepository repository;
+
+    @Mock
+    private UserEntityMapper entityMapper;
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    private UserReactiveRepositoryAdapter adapter;
+    private EditUserCommand command;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserReactiveRepositoryAdapter(repository, entityMapper, template,
+                new LookupBatchingProperties(false, null, null));
+        command = new EditUserCommand("Calle 10 #5-20", new Email("luis@example.com"),
+                new Salary(new BigDecimal("3000000")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.destroy();
+    }
+
+    @Test
+    @DisplayName("shouldRejectContactUpdateToAnEmailAlreadyTaken")
+    void shouldRejectContactUpdateToAnEmailAlreadyTaken() {
+        UUID id = UUID.randomUUID();
+        when(repository.updateContactInfoById(id, "Calle 10 #5-20", "luis@example.com", new BigDecimal("3000000")))
+                .thenReturn(Mono.error(new DuplicateKeyException(EMAIL_CONFLICT)));
+
+        StepVerifier.create(adapter.updateContactInfo(id, command))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(DomainValidationException.class)
+                        .hasMessage("El email ya está registrado"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("shouldRejectContactUpdateByEmailToAnEmailAlreadyTaken")
+    void shouldRejectContactUpdateByEmailToAnEmailAlreadyTaken() {
+        when(repository.updateContactInfoByEmail("ana@example.com", "Calle 10 #5-20", "luis@example.com",
+                new BigDecimal("3000000")))
+                .thenReturn(Mono.error(new DuplicateKeyException(EMAIL_CONFLICT)));
+
+        StepVerifier.create(adapter.updateContactInfoByEmail(new Email("ana@example.com"), command))
+                .expectError(DomainValidationException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("shouldKeepOtherIntegrityViolationsUntouched")
+    void shouldKeepOtherIntegrityViolationsUntouched() {
+        UUID id = UUID.randomUUID();
+        when(repository.updateContactInfoById(id, "Calle 10 #5-20", "luis@example.com", new BigDecimal("3000000")))
+                .thenReturn(Mono.error(new DataIntegrityViolationException(
+                        "violates foreign key constraint \"fk_user_entity_rol\"")));
+
+        StepVerifier.create(adapter.updateContactInfo(id, command))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,152 @@
+package co.com.crediya.r2dbc.cache;
+
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.EditUserCommand;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import co.com.crediya.r2dbc.UserReactiveRepositoryAdapter;
+import co.com.crediya.r2dbc.config.UserCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserRepository Tests")
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserReactiveRepositoryAdapter delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingUserRepository repository;
+    private User user;
+    private Email email;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingUserRepository(delegate,
+                new UserCacheProperties(true, 100L, Duration.ofMinutes(1)), meterRegistry);
+        email = new Email("ana.gomez@example.com");
+        user = User.create(
+                UUID.randomUUID(),
+                "Ana",
+                "Gómez",
+                new Birthday(LocalDate.of(1992, 3, 10)),
+                "Carrera 7 #12-30",
+                email,
+                new Salary(new BigDecimal("2500000")),
+                "1020304050",
+                "hashed",
+                UUID.randomUUID()
+        );
+    }
+
+    @Test
+    @DisplayName("shouldShareOneQueryForConcurrentMisses")
+    void shouldShareOneQueryForConcurrentMisses() {
+        Sinks.One<User> db = Sinks.one();
+        when(delegate.findByEmail(email)).thenReturn(db.asMono());
+
+        Mono<User> first = repository.findByEmail(email);
+        Mono<User> second = repository.findByEmail(email);
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> db.tryEmitValue(user))
+                .assertNext(pair -> assertThat(pair.getT1()).isSameAs(pair.getT2()))
+                .verifyComplete();
+
+        verify(delegate, times(1)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("shouldServeIdLookupFromEntryLoadedByEmail")
+    void shouldServeIdLookupFromEntryLoadedByEmail() {
+        when(delegate.findByEmail(email)).thenReturn(Mono.just(user));
+
+        StepVerifier.create(repository.findByEmail(email).then(repository.findById(user.getId())))
+                .expectNext(user)
+                .verifyComplete();
+
+        verify(delegate, times(0)).findById(user.getId());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users.by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("shouldInvalidateBothIndexesOnDeleteByEmail")
+    void shouldInvalidateBothIndexesOnDeleteByEmail() {
+        when(delegate.findById(user.getId())).thenReturn(Mono.just(user), Mono.empty());
+        when(delegate.deleteByEmailReturningCount(email)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repository.findById(user.getId())
+                        .then(repository.deleteByEmailReturningCount(email))
+                        .then(repository.findById(user.getId())))
+                .verifyComplete();
+
+        verify(delegate, times(2)).findById(user.getId());
+    }
+
+    @Test
+    @DisplayName("shouldInvalidateEmailEntryOnDeleteById")
+    void shouldInvalidateEmailEntryOnDeleteById() {
+        when(delegate.findByEmail(email)).thenReturn(Mono.just(user), Mono.empty());
+        when(delegate.delete(user.getId())).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.findByEmail(email)
+                        .then(repository.delete(user.getId()))
+                        .then(repository.findByEmail(email)))
+                .verifyComplete();
+
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("shouldNotServeStaleIdEntryAfterEmailOnlyUpdate")
+    void shouldNotServeStaleIdEntryAfterEmailOnlyUpdate() {
+        Email newEmail = new Email("ana.nueva@example.com");
+        EditUserCommand command = new EditUserCommand("Calle 10 #5-20", newEmail, new Salary(new BigDecimal("3000000")));
+        User updated = User.create(user.getId(), "Ana", "Gómez", new Birthday(LocalDate.of(1992, 3, 10)),
+                "Calle 10 #5-20", newEmail, new Salary(new BigDecimal("3000000")), "1020304050", "hashed",
+                UUID.randomUUID());
+        when(delegate.findById(user.getId())).thenReturn(Mono.just(user), Mono.just(updated));
+        when(delegate.updateContactInfoByEmail(email, command)).thenReturn(Mono.just(updated));
+
+        StepVerifier.create(repository.findById(user.getId())
+                        .then(repository.updateContactInfoByEmail(email, command))
+                        .then(repository.findById(user.getId())))
+                .expectNext(updated)
+                .verifyComplete();
+
+        verify(delegate, times(2)).findById(user.getId());
+    }
+
+    @Test
+    @DisplayName("shouldNotCacheMissingUsers")
+    void shouldNotCacheMissingUsers() {
+        when(delegate.findByEmail(email)).thenReturn(Mono.empty(), Mono.just(user));
+
+        StepVerifier.create(repository.findByEmail(email))
+                .verifyComplete();
+        StepVerifier.create(repository.findByEmail(email))
+                .expectNext(user)
+                .verifyComplete();
+    }
+}
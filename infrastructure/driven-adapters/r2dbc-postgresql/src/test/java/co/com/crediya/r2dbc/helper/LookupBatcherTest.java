@@ -0,0 +1,111 @@
+package co.com.crediya.r2dbc.helper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LookupBatcher Tests")
+class LookupBatcherTest {
+
+    private final List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+    private LookupBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.dispose();
+    }
+
+    private LookupBatcher<String, String> batcher(int maxBatchSize, Duration window) {
+        return new LookupBatcher<>(keys -> {
+            executedBatches.add(keys);
+            return Flux.fromIterable(keys).filter(k -> !k.startsWith("missing")).map(String::toUpperCase);
+        }, String::toLowerCase, maxBatchSize, window);
+    }
+
+    @Test
+    @DisplayName("shouldMergeDistinctAndDuplicateKeysIntoOneQuery")
+    void shouldMergeDistinctAndDuplicateKeysIntoOneQuery() {
+        batcher = batcher(10, Duration.ofMillis(50));
+
+        StepVerifier.create(Mono.zip(batcher.load("ana"), batcher.load("luis"), batcher.load("ana")))
+                .assertNext(t -> {
+                    assertThat(t.getT1()).isEqualTo("ANA");
+                    assertThat(t.getT2()).isEqualTo("LUIS");
+                    assertThat(t.getT3()).isEqualTo("ANA");
+                })
+                .verifyComplete();
+
+        assertThat(executedBatches).containsExactly(List.of("ana", "luis"));
+    }
+
+    @Test
+    @DisplayName("shouldCompleteEmptyForMissingKeys")
+    void shouldCompleteEmptyForMissingKeys() {
+        batcher = batcher(10, Duration.ofMillis(5));
+
+        StepVerifier.create(batcher.load("missing-user"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("shouldQueryAgainOnceThePreviousLookupCompleted")
+    void shouldQueryAgainOnceThePreviousLookupCompleted() {
+        batcher = batcher(1, Duration.ZERO);
+
+        StepVerifier.create(batcher.load("ana").then(batcher.load("ana")))
+                .expectNext("ANA")
+                .verifyComplete();
+
+        assertThat(executedBatches).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("shouldFailLookupsAfterDispose")
+    void shouldFailLookupsAfterDispose() {
+        batcher = batcher(10, Duration.ofMillis(50));
+        batcher.dispose();
+
+        StepVerifier.create(batcher.load("ana"))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+        StepVerifier.create(batcher.load("ana"))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(executedBatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("shouldQueueBatchesWhileTheDatabaseIsStalled")
+    void shouldQueueBatchesWhileTheDatabaseIsStalled() {
+        Sinks.Empty<Void> database = Sinks.empty();
+        batcher = new LookupBatcher<>(keys -> {
+            executedBatches.add(keys);
+            return database.asMono().thenMany(Flux.fromIterable(keys).map(String::toUpperCase));
+        }, String::toLowerCase, 2, Duration.ofMillis(1));
+
+        // 600 llaves en lotes de 2: más de 256 ventanas esperando a la base a la vez
+        StepVerifier.create(Flux.range(0, 600).flatMap(i -> batcher.load("k" + i), 600).count())
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(200))
+                .then(database::tryEmitEmpty)
+                .expectNext(600L)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        StepVerifier.create(batcher.load("ana"))
+                .expectNext("ANA")
+                .verifyComplete();
+        assertThat(executedBatches.stream().mapToInt(List::size).sum()).isEqualTo(601);
+    }
+}
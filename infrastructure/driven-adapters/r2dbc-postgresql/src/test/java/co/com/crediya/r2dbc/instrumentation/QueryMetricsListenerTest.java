@@ -0,0 +1,150 @@
+package co.com.crediya.r2dbc.instrumentation;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import co.com.crediya.r2dbc.RefreshTokenReactiveRepository;
+import co.com.crediya.r2dbc.UserReactiveRepository;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.spi.Connection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.repository.Query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("QueryMetricsListener Tests")
+class QueryMetricsListenerTest {
+
+    private static final String EMAIL = "ana.gomez@example.com";
+    private static final String PASSWORD_HASH = "$2a$10$abcdefghijklmnopqrstuv";
+
+    private final QueryNames queryNames =
+            new QueryNames(UserReactiveRepository.class, RefreshTokenReactiveRepository.class);
+    private final Logger logger = (Logger) LoggerFactory.getLogger(QueryMetricsListener.class);
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        logs.start();
+        logger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(logs);
+    }
+
+    @Test
+    @DisplayName("shouldLogSlowQueriesWithParameterTypesOnly")
+    void shouldLogSlowQueriesWithParameterTypesOnly() throws Exception {
+        QueryMetricsListener listener = new QueryMetricsListener(meterRegistry, queryNames, Duration.ofMillis(100), 1.0);
+        String sql = UserReactiveRepository.class.getMethod("findByEmail", String.class)
+                .getAnnotation(Query.class).value();
+
+        listener.afterQuery(query(sql, Duration.ofMillis(250), true, 1, EMAIL, PASSWORD_HASH, null));
+
+        assertThat(logs.list).hasSize(1);
+        String line = logs.list.get(0).getFormattedMessage();
+        assertThat(line).contains("findByEmail", "$1=<String>", "$2=<String>", "$3=null");
+        assertThat(line).doesNotContain(EMAIL, PASSWORD_HASH);
+    }
+
+    @Test
+    @DisplayName("shouldSkipFastQueriesAndRespectSampling")
+    void shouldSkipFastQueriesAndRespectSampling() {
+        String sql = "SELECT user_entity.* FROM user_entity WHERE user_entity.id = $1";
+        QueryMetricsListener logsAll = new QueryMetricsListener(meterRegistry, queryNames, Duration.ofMillis(100), 1.0);
+        QueryMetricsListener logsNone = new QueryMetricsListener(meterRegistry, queryNames, Duration.ofMillis(100), 0.0);
+
+        logsAll.afterQuery(query(sql, Duration.ofMillis(5), true, 1, UUID.randomUUID()));
+        logsNone.afterQuery(query(sql, Duration.ofSeconds(2), true, 1, UUID.randomUUID()));
+
+        assertThat(logs.list).isEmpty();
+        // Aunque no se registre en el log, la sentencia siempre se mide
+        assertThat(meterRegistry.get("r2dbc.query").tag("query", "select:user_entity").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("shouldTagTimersAndRowsWithLowCardinalityValues")
+    void shouldTagTimersAndRowsWithLowCardinalityValues() {
+        QueryMetricsListener listener = new QueryMetricsListener(meterRegistry, queryNames, Duration.ofSeconds(1), 1.0);
+
+        // El INSERT multi-fila produce un texto distinto por tamaño de lote
+        IntStream.rangeClosed(1, 50).forEach(rows -> listener.afterQuery(query(
+                "INSERT INTO user_entity (name, email) VALUES " + "($1, $2), ".repeat(rows) + "($3, $4)",
+                Duration.ofMillis(3), true, rows, "Ana", EMAIL + rows)));
+        listener.afterQuery(query("SELECT user_entity.* FROM user_entity WHERE user_entity.id = $1",
+                Duration.ofMillis(3), false, 0, UUID.randomUUID()));
+
+        assertThat(meterRegistry.find("r2dbc.query").timers())
+                .extracting(timer -> timer.getId().getTag("query") + "/" + timer.getId().getTag("outcome"))
+                .containsExactlyInAnyOrder("insert:user_entity/success", "insert:user_entity/error",
+                        "select:user_entity/success", "select:user_entity/error");
+        assertThat(meterRegistry.get("r2dbc.query").tags("query", "insert:user_entity", "outcome", "success")
+                .timer().count()).isEqualTo(50);
+        assertThat(meterRegistry.get("r2dbc.query").tags("query", "select:user_entity", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+
+        assertThat(meterRegistry.get("r2dbc.query.rows").tag("query", "insert:user_entity").summary().totalAmount())
+                .isEqualTo(IntStream.rangeClosed(1, 50).sum());
+        assertThat(meterRegistry.getMeters())
+                .flatExtracting(meter -> meter.getId().getTags())
+                .allSatisfy(tag -> assertThat(tag.getValue()).doesNotContain(EMAIL, "$1", "VALUES"));
+    }
+
+    @Test
+    @DisplayName("shouldCountTransactionDemarcationByOperation")
+    void shouldCountTransactionDemarcationByOperation() throws Exception {
+        QueryMetricsListener listener = new QueryMetricsListener(meterRegistry, queryNames, Duration.ofSeconds(1), 1.0);
+
+        listener.afterMethod(method("beginTransaction"));
+        listener.afterMethod(method("commitTransaction"));
+        listener.afterMethod(method("close"));
+
+        assertThat(meterRegistry.get("r2dbc.transaction").tag("operation", "begin").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("r2dbc.transaction").tag("operation", "commit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("r2dbc.transaction").counters()).extracting(Meter::getId).hasSize(2);
+    }
+
+    private static QueryExecutionInfo query(String sql, Duration elapsed, boolean success, int rows, Object... values) {
+        Bindings bindings = new Bindings();
+        for (int i = 0; i < values.length; i++) {
+            BoundValue value = values[i] == null ? BoundValue.nullValue(String.class) : BoundValue.value(values[i]);
+            bindings.addIndexBinding(new Bindings.IndexBinding(i, value));
+        }
+        QueryInfo queryInfo = new QueryInfo(sql);
+        queryInfo.getBindingsList().add(bindings);
+
+        QueryExecutionInfo info = mock(QueryExecutionInfo.class);
+        when(info.getQueries()).thenReturn(List.of(queryInfo));
+        when(info.getExecuteDuration()).thenReturn(elapsed);
+        when(info.isSuccess()).thenReturn(success);
+        when(info.getCurrentResultCount()).thenReturn(rows);
+        return info;
+    }
+
+    private static MethodExecutionInfo method(String name) throws NoSuchMethodException {
+        MethodExecutionInfo info = mock(MethodExecutionInfo.class);
+        when(info.getMethod()).thenReturn(Connection.class.getMethod(name));
+        return info;
+    }
+}
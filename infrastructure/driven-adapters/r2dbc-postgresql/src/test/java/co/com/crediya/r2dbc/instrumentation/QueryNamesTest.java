@@ -0,0 +1,47 @@
+package co.com.crediya.r2dbc.instrumentation;
+
+import co.com.crediya.r2dbc.RefreshTokenReactiveRepository;
+import co.com.crediya.r2dbc.UserReactiveRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryNames Tests")
+class QueryNamesTest {
+
+    private final QueryNames queryNames =
+            new QueryNames(UserReactiveRepository.class, RefreshTokenReactiveRepository.class);
+
+    @Test
+    @DisplayName("shouldNameDeclaredQueriesAfterRepositoryMethod")
+    void shouldNameDeclaredQueriesAfterRepositoryMethod() throws Exception {
+        String findByEmail = UserReactiveRepository.class.getMethod("findByEmail", String.class)
+                .getAnnotation(Query.class).value();
+        String rotate = RefreshTokenReactiveRepository.class
+                .getMethod("rotate", String.class, String.class, Instant.class)
+                .getAnnotation(Query.class).value();
+
+        assertThat(queryNames.nameOf(findByEmail)).isEqualTo("findByEmail");
+        assertThat(queryNames.nameOf(rotate)).isEqualTo("rotate");
+        // El driver puede recibir el texto con otros saltos de línea o indentación
+        assertThat(queryNames.nameOf("  " + rotate.replace("\n", "\n    ") + " ")).isEqualTo("rotate");
+    }
+
+    @Test
+    @DisplayName("shouldNameGeneratedStatementsByVerbAndTable")
+    void shouldNameGeneratedStatementsByVerbAndTable() {
+        assertThat(queryNames.nameOf("SELECT user_entity.* FROM user_entity WHERE user_entity.id = $1 LIMIT 2"))
+                .isEqualTo("select:user_entity");
+        assertThat(queryNames.nameOf("INSERT INTO user_entity (name, email) VALUES ($1, $2), ($3, $4)"))
+                .isEqualTo("insert:user_entity");
+        assertThat(queryNames.nameOf("UPDATE user_entity SET name = $1 WHERE user_entity.id = $2"))
+                .isEqualTo("update:user_entity");
+        assertThat(queryNames.nameOf("DELETE FROM user_entity WHERE user_entity.id = $1"))
+                .isEqualTo("delete:user_entity");
+        assertThat(queryNames.nameOf("SELECT 1")).isEqualTo("select");
+    }
+}
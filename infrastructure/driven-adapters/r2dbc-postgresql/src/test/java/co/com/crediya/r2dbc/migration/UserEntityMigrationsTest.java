@@ -0,0 +1,242 @@
+package co.com.crediya.r2dbc.migration;
+
+import co.com.crediya.r2dbc.RefreshTokenReactiveRepository;
+import co.com.crediya.r2dbc.UserReactiveRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Aplica las migraciones sobre un Postgres embebido y verifica con EXPLAIN que las consultas
+ * calientes del repositorio, tal como están declaradas en {@link UserReactiveRepository},
+ * se resuelven por índice.
+ */
+@DisplayName("User entity migrations Tests")
+class UserEntityMigrationsTest {
+
+    private static final String EMAIL_INDEX = "ux_user_entity_email_lower";
+    private static final String PRIMARY_KEY = "user_entity_pkey";
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            st.execute("""
+                    INSERT INTO user_entity (name, last_name, birthday, address, email, base_salary, identification, password, rol)
+                    SELECT 'Nombre', 'Apellido', DATE '1990-01-01', 'Calle 123 #45-67', 'usuario' || i || '@example.com',
+                           1000000, i::text, 'hash', '4595846d-823f-466a-9ac9-b9707c27dd18'
+                    FROM generate_series(1, 20000) AS i""");
+            st.execute("ANALYZE user_entity");
+        }
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("shouldResolveEmailLookupsThroughCaseInsensitiveIndex")
+    void shouldResolveEmailLookupsThroughCaseInsensitiveIndex() throws Exception {
+        String email = "'Usuario42@Example.com'";
+
+        assertThat(plan(query("findByEmail", String.class), email)).contains(EMAIL_INDEX);
+        assertThat(plan(query("existsByEmail", String.class), email)).contains(EMAIL_INDEX);
+        assertThat(plan(query("existsByEmailAndIdNot", String.class, UUID.class), email, uuid()))
+                .contains(EMAIL_INDEX);
+        assertThat(plan(query("deleteByEmailReturningCount", String.class), email)).contains(EMAIL_INDEX);
+        assertThat(plan(query("findAllByEmailIn", String[].class),
+                "ARRAY['usuario1@example.com', 'usuario2@example.com']")).contains(EMAIL_INDEX);
+    }
+
+    @Test
+    @DisplayName("shouldResolveIdLookupsAndPagesThroughPrimaryKey")
+    void shouldResolveIdLookupsAndPagesThroughPrimaryKey() throws Exception {
+        assertThat(plan("SELECT * FROM user_entity WHERE id = $1", uuid())).contains(PRIMARY_KEY);
+        assertThat(plan(query("findAllByIdIn", UUID[].class), "ARRAY[" + uuid() + ", " + uuid() + "]"))
+                .contains(PRIMARY_KEY);
+        assertThat(plan(query("findPageAfter", UUID.class, int.class), uuid(), "50")).contains(PRIMARY_KEY);
+    }
+
+    @Test
+    @DisplayName("shouldRejectEmailsThatDifferOnlyInCase")
+    void shouldRejectEmailsThatDifferOnlyInCase() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            assertThatThrownBy(() -> st.execute("""
+                    INSERT INTO user_entity (name, last_name, birthday, address, email, base_salary, rol)
+                    VALUES ('Nombre', 'Apellido', DATE '1990-01-01', 'Calle 123 #45-67', 'USUARIO1@EXAMPLE.COM',
+                            1000000, '4595846d-823f-466a-9ac9-b9707c27dd18')"""))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining(EMAIL_INDEX);
+        }
+    }
+
+    @Test
+    @DisplayName("shouldRejectUnknownRol")
+    void shouldRejectUnknownRol() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            assertThatThrownBy(() -> st.execute("""
+                    INSERT INTO user_entity (name, last_name, birthday, address, email, base_salary, rol)
+                    VALUES ('Nombre', 'Apellido', DATE '1990-01-01', 'Calle 123 #45-67', 'sinrol@example.com',
+                            1000000, gen_random_uuid())"""))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("fk_user_entity_rol");
+        }
+    }
+
+    @Test
+    @DisplayName("shouldResolveRefreshTokenLookupsThroughIndexes")
+    void shouldResolveRefreshTokenLookupsThroughIndexes() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            st.execute("""
+                    INSERT INTO refresh_token (user_id, family_id, token_hash, expires_at)
+                    SELECT id, gen_random_uuid(), md5(id::text) || md5(email), now() + interval '1 day'
+                    FROM user_entity""");
+            st.execute("ANALYZE refresh_token");
+        }
+        String hash = "'" + "a".repeat(64) + "'";
+
+        assertThat(plan(query(RefreshTokenReactiveRepository.class, "rotate", String.class, String.class,
+                Instant.class), hash, "'" + "f".repeat(64) + "'", "now() + interval '7 days'"))
+                .contains("ux_refresh_token_hash");
+        assertThat(plan(query(RefreshTokenReactiveRepository.class, "findByTokenHash", String.class), hash))
+                .contains("ux_refresh_token_hash");
+        assertThat(plan(query(RefreshTokenReactiveRepository.class, "revokeFamily", UUID.class), uuid()))
+                .contains("ix_refresh_token_family_active");
+    }
+
+    @Test
+    @DisplayName("shouldDeleteRefreshTokensWithTheirUser")
+    void shouldDeleteRefreshTokensWithTheirUser() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            st.execute("""
+                    INSERT INTO refresh_token (user_id, family_id, token_hash, expires_at)
+                    SELECT id, gen_random_uuid(), repeat('b', 64), now() + interval '1 day'
+                    FROM user_entity WHERE lower(email) = 'usuario7@example.com'""");
+            st.execute("DELETE FROM user_entity WHERE lower(email) = 'usuario7@example.com'");
+
+            try (ResultSet rs = st.executeQuery("SELECT count(*) FROM refresh_token WHERE token_hash = repeat('b', 64)")) {
+                rs.next();
+                assertThat(rs.getLong(1)).isZero();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("shouldKeepPresentedRefreshTokenValidWhenRotationFails")
+    void shouldKeepPresentedRefreshTokenValidWhenRotationFails() throws Exception {
+        String presented = "'" + "c".repeat(64) + "'";
+        String taken = "'" + "d".repeat(64) + "'";
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            st.execute("""
+                    INSERT INTO refresh_token (user_id, family_id, token_hash, expires_at)
+                    SELECT id, gen_random_uuid(), h, now() + interval '1 day'
+                    FROM user_entity, (VALUES (repeat('c', 64)), (repeat('d', 64))) AS t(h)
+                    WHERE lower(email) = 'usuario8@example.com'""");
+
+            // El insert del token siguiente viola ux_refresh_token_hash después de revocar el presentado
+            String rotate = bind(query(RefreshTokenReactiveRepository.class, "rotate", String.class, String.class,
+                    Instant.class), presented, taken, "now() + interval '7 days'");
+            assertThatThrownBy(() -> st.executeQuery(rotate))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("ux_refresh_token_hash");
+
+            try (ResultSet rs = st.executeQuery("SELECT revoked_at FROM refresh_token WHERE token_hash = " + presented)) {
+                rs.next();
+                assertThat(rs.getTimestamp(1)).isNull();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("shouldPurgeOnlyRefreshTokensExpiredBeforeCutoff")
+    void shouldPurgeOnlyRefreshTokensExpiredBeforeCutoff() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            st.execute("""
+                    INSERT INTO refresh_token (user_id, family_id, token_hash, expires_at, revoked_at)
+                    SELECT id, gen_random_uuid(), h, now() + e, r
+                    FROM user_entity, (VALUES
+                        (repeat('1', 64), interval '-3 days', now() - interval '10 days'),
+                        (repeat('2', 64), interval '-3 days', NULL),
+                        (repeat('3', 64), interval '-1 hour', now() - interval '7 days'),
+                        (repeat('4', 64), interval '1 day', now())) AS t(h, e, r)
+                    WHERE lower(email) = 'usuario9@example.com'""");
+
+            st.executeUpdate(bind(query(RefreshTokenReactiveRepository.class, "deleteExpiredBefore", Instant.class),
+                    "now() - interval '1 day'"));
+
+            // Vencidos dentro del margen y vigentes se conservan para detectar reutilización
+            try (ResultSet rs = st.executeQuery("""
+                    SELECT left(token_hash, 1) FROM refresh_token
+                    WHERE token_hash IN (repeat('1', 64), repeat('2', 64), repeat('3', 64), repeat('4', 64))
+                    ORDER BY 1""")) {
+                List<String> remaining = new ArrayList<>();
+                while (rs.next()) {
+                    remaining.add(rs.getString(1));
+                }
+                assertThat(remaining).containsExactly("3", "4");
+            }
+        }
+    }
+
+    private static String query(String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return query(UserReactiveRepository.class, method, parameterTypes);
+    }
+
+    private static String query(Class<?> repository, String method, Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        return repository.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+    }
+
+    private static String uuid() {
+        return "'" + UUID.randomUUID() + "'::uuid";
+    }
+
+    private static String bind(String sql, String... literals) {
+        String bound = sql;
+        for (int i = literals.length; i >= 1; i--) {
+            bound = bound.replace("$" + i, literals[i - 1]);
+        }
+        return bound;
+    }
+
+    private static String plan(String sql, String... literals) throws SQLException {
+        String bound = bind(sql, literals);
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+             Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("EXPLAIN " + bound)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
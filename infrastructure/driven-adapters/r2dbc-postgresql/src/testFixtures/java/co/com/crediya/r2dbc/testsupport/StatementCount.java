@@ -0,0 +1,34 @@
+package co.com.crediya.r2dbc.testsupport;
+
+import java.util.List;
+
+/**
+ * Resultado de {@link StatementCounter#count}. Los round trips suman las sentencias y la
+ * demarcación de transacciones (BEGIN, COMMIT, ROLLBACK).
+ */
+public record StatementCount(
+        List<String> statements,
+        int begins,
+        int commits,
+        int rollbacks
+) {
+
+    public int roundTrips() {
+        return statements.size() + begins + commits + rollbacks;
+    }
+
+    /**
+     * Falla si la cadena no emitió exactamente el número de sentencias y de transacciones
+     * esperado; el mensaje lista las sentencias observadas.
+     */
+    public StatementCount assertBudget(String useCase, int expectedStatements, int expectedTransactions) {
+        if (statements.size() != expectedStatements || begins != expectedTransactions) {
+            throw new AssertionError(String.format(
+                    "%s: se esperaban %d sentencias y %d transacciones, hubo %d sentencias %s y %d transacciones"
+                            + " (%d round trips)",
+                    useCase, expectedStatements, expectedTransactions, statements.size(), statements, begins,
+                    roundTrips()));
+        }
+        return this;
+    }
+}
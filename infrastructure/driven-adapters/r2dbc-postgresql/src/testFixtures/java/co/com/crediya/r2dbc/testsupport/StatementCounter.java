@@ -0,0 +1,65 @@
+package co.com.crediya.r2dbc.testsupport;
+
+import co.com.crediya.r2dbc.instrumentation.QueryNames;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cuenta las sentencias y los round trips de transacción que pasan por el ConnectionFactory
+ * instrumentado mientras se ejecuta una cadena reactiva. Registrado como bean, la
+ * configuración de instrumentación lo agrega al proxy. Mide una cadena a la vez: las pruebas
+ * que lo usan no deben ejecutarse en paralelo sobre el mismo contexto.
+ */
+public class StatementCounter implements ProxyExecutionListener {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final QueryNames queryNames;
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private final AtomicInteger begins = new AtomicInteger();
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+
+    public StatementCounter(QueryNames queryNames) {
+        this.queryNames = queryNames;
+    }
+
+    // Suscribe la cadena hasta completarla y devuelve lo que envió a la base
+    public StatementCount count(Publisher<?> chain) {
+        reset();
+        Flux.from(chain).then().block(TIMEOUT);
+        return new StatementCount(List.copyOf(statements), begins.get(), commits.get(), rollbacks.get());
+    }
+
+    public void reset() {
+        statements.clear();
+        begins.set(0);
+        commits.set(0);
+        rollbacks.set(0);
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo info) {
+        info.getQueries().forEach(query -> statements.add(queryNames.nameOf(query.getQuery())));
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionInfo info) {
+        switch (info.getMethod().getName()) {
+            case "beginTransaction" -> begins.incrementAndGet();
+            case "commitTransaction" -> commits.incrementAndGet();
+            case "rollbackTransaction" -> rollbacks.incrementAndGet();
+            default -> {
+                // otros métodos del SPI no generan round trips propios
+            }
+        }
+    }
+}
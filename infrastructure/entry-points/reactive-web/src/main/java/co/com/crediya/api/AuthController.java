@@ -2,10 +2,13 @@ package co.com.crediya.api;
 
 import co.com.crediya.api.dto.GeneralResponse;
 import co.com.crediya.api.dto.LoginRequest;
+import co.com.crediya.api.dto.RefreshTokenRequest;
 import co.com.crediya.api.dto.TokenResponse;
 import co.com.crediya.api.security.AuthService;
 import co.com.crediya.api.security.JwtService;
+import co.com.crediya.model.user.User;
 import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.usecase.refreshtoken.RefreshTokenUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -29,12 +32,13 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtService jwtService;
+    private final RefreshTokenUseCase refreshTokenUseCase;
 
     @Operation(
             summary = "Autenticación de usuario",
             description = """
                     Autentica al usuario con email y password. 
-                    En caso de éxito, devuelve un JWT con los claims del usuario.
+                    En caso de éxito, devuelve un JWT con los claims del usuario y un refresh token.
                     """,
             responses = {
                     @ApiResponse(
@@ -59,12 +63,40 @@ public class AuthController {
         log.info("Intento de login: {}", req.email());
         return authService.authenticate(new Email(req.email()), req.password())
                 .doOnNext(u -> log.debug("Usuario autenticado: {} ({})", u.getEmail(), u.getRol()))
-                .map(u -> {
-                    String jwt = jwtService.generateToken(u);
-                    var data = new TokenResponse(jwt,
-                            jwtService.getExpirationMinutes(),
-                            "Bearer");
-                    return ResponseEntity.ok(new GeneralResponse<>(200, data, null));
-                });
+                .flatMap(u -> refreshTokenUseCase.issue(u).map(refreshToken -> tokenResponse(u, refreshToken)));
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Renovación del access token",
+            description = """
+                    Entrega un nuevo JWT sin volver a verificar la contraseña. El refresh token presentado
+                    queda revocado y se devuelve uno nuevo; reutilizar uno ya rotado revoca toda la sesión.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Token renovado",
+                            content = @Content(schema = @Schema(implementation = TokenResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Refresh token inválido, vencido o reutilizado",
+                            content = @Content
+                    )
+            }
+    )
+    @PostMapping("token/refresh")
+    public Mono<ResponseEntity<GeneralResponse<TokenResponse>>> refresh(@RequestBody RefreshTokenRequest req) {
+        return refreshTokenUseCase.refresh(req.refreshToken())
+                .map(grant -> tokenResponse(grant.user(), grant.refreshToken()));
+    }
+
+    private ResponseEntity<GeneralResponse<TokenResponse>> tokenResponse(User user, String refreshToken) {
+        String jwt = jwtService.generateToken(user);
+        var data = new TokenResponse(jwt,
+                jwtService.getExpirationMinutes(),
+                "Bearer",
+                refreshToken);
+        return ResponseEntity.ok(new GeneralResponse<>(200, data, null));
+    }
+}
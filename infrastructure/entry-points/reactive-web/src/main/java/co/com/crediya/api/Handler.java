@@ -3,23 +3,33 @@ package co.com.crediya.api;
 import co.com.crediya.api.dto.CreateUserRequest;
 import co.com.crediya.api.dto.EditUserRequest;
 import co.com.crediya.api.dto.GeneralResponse;
+import co.com.crediya.api.dto.UserImportResponse;
+import co.com.crediya.api.dto.UserLookupRequest;
+import co.com.crediya.api.dto.UserResponse;
 import co.com.crediya.api.mapper.UserMapper;
+import co.com.crediya.model.user.exceptions.DomainValidationException;
 import co.com.crediya.model.user.exceptions.UserNotFoundException;
+import co.com.crediya.model.user.valueobjects.CreateUserCommand;
 import co.com.crediya.model.user.valueobjects.Email;
 import co.com.crediya.usecase.createuser.CreateUserUseCase;
 import co.com.crediya.usecase.deleteuser.DeleteUserUseCase;
 import co.com.crediya.usecase.getuserbyid.GetUserQueryUseCase;
+import co.com.crediya.usecase.importusers.ImportUsersUseCase;
 import co.com.crediya.usecase.updateuser.UpdateUserUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -30,8 +40,12 @@ public class Handler {
     private final DeleteUserUseCase deleteUserUseCase;
     private final GetUserQueryUseCase getUserQueryUseCase;
     private final UpdateUserUseCase updateUserUseCase;
+    private final ImportUsersUseCase importUsersUseCase;
     private final UserMapper userMapper;
 
+    private static final String USERS_PATH = "/api/v1/usuarios";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     // Registrar usuario (POST /api/v1/usuarios)
     public Mono<ServerResponse> createUser(CreateUserRequest createUserRequest) {
         log.info("POST /usuarios - Iniciando creación de usuario");
@@ -57,27 +71,93 @@ public class Handler {
                 .doOnSuccess(response -> log.info("Respuesta HTTP 201 enviada para creación de usuario"));
     }
 
-    // Buscar usuarios (GET /api/v1/usuarios)
-    public Mono<ServerResponse> getAllUsers() {
-        log.info("GET /usuarios - Iniciando consulta de todos los usuarios");
+    // Importación masiva (POST /api/v1/usuarios/bulk, arreglo JSON o NDJSON); un resultado NDJSON por fila
+    public Mono<ServerResponse> importUsers(Flux<CreateUserRequest> requests) {
+        log.info("POST /usuarios/bulk - Iniciando importación masiva de usuarios");
 
-        return getUserQueryUseCase.findAllUsers()
-                .doOnNext(user -> log.debug("Usuario encontrado: id={}, email={}", user.getId(), user.getEmail().value()))
+        Flux<Supplier<CreateUserCommand>> commands = requests
+                .<Supplier<CreateUserCommand>>map(request -> () -> userMapper.toCommand(request));
+        Flux<UserImportResponse> results = importUsersUseCase.importUsers(commands)
+                .map(userMapper::toResponse);
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results, UserImportResponse.class);
+    }
+
+    // Buscar usuarios paginado (GET /api/v1/usuarios?cursor=...&size=...)
+    public Mono<ServerResponse> getAllUsers(String cursor, String size) {
+        log.info("GET /usuarios - Consulta paginada cursor={}, size={}", cursor, size);
+
+        UUID afterId = cursor == null || cursor.isBlank() ? null : UUID.fromString(cursor);
+        Integer pageSize = parsePageSize(size);
+        int effectiveSize = pageSize == null ? GetUserQueryUseCase.DEFAULT_PAGE_SIZE : pageSize;
+
+        return getUserQueryUseCase.findUsersPage(afterId, pageSize)
                 .map(userMapper::toResponse)
                 .collectList()
-                .doOnNext(users -> log.info("Se encontraron {} usuarios", users.size()))
+                .doOnNext(users -> log.info("Se encontraron {} usuarios en la página", users.size()))
                 .flatMap(users -> {
-                    log.debug("Enviando respuesta con {} usuarios", users.size());
-                    return ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(new GeneralResponse<>(
-                                    HttpStatus.OK.value(),
-                                    users,
-                                    null));
+                    var response = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+                    if (users.size() == effectiveSize) {
+                        String nextCursor = users.get(users.size() - 1).id();
+                        response.header(NEXT_CURSOR_HEADER, nextCursor)
+                                .header(HttpHeaders.LINK, "<" + USERS_PATH + "?cursor=" + nextCursor
+                                        + "&size=" + effectiveSize + ">; rel=\"next\"");
+                    }
+                    return response.bodyValue(new GeneralResponse<>(
+                            HttpStatus.OK.value(),
+                            users,
+                            null));
                 })
                 .doOnSuccess(response -> log.info("Respuesta HTTP 200 enviada para consulta de usuarios"));
     }
 
+    // Exportar usuarios en streaming (GET /api/v1/usuarios con Accept: application/x-ndjson)
+    public Mono<ServerResponse> streamUsers() {
+        log.info("GET /usuarios - Iniciando streaming NDJSON de usuarios");
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(getUserQueryUseCase.streamAllUsers().map(userMapper::toResponse), UserResponse.class);
+    }
+
+    private static Integer parsePageSize(String size) {
+        if (size == null || size.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(size);
+        } catch (NumberFormatException e) {
+            throw new DomainValidationException("El tamaño de página debe ser numérico");
+        }
+    }
+
+    // Búsqueda masiva (POST /api/v1/usuarios/lookup); NDJSON si el cliente lo acepta, si no lista JSON
+    public Mono<ServerResponse> lookupUsers(UserLookupRequest lookupRequest, boolean ndjson) {
+        List<String> emails = lookupRequest.emails() == null ? List.of() : lookupRequest.emails();
+        List<UUID> ids = lookupRequest.ids() == null
+                ? List.of()
+                : lookupRequest.ids().stream().map(UUID::fromString).toList();
+        log.info("POST /usuarios/lookup - Buscando {} emails y {} ids", emails.size(), ids.size());
+
+        Flux<UserResponse> users = getUserQueryUseCase.lookupUsers(emails, ids)
+                .map(userMapper::toResponse);
+
+        if (ndjson) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(users, UserResponse.class);
+        }
+        return users.collectList()
+                .flatMap(found -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(new GeneralResponse<>(
+                                HttpStatus.OK.value(),
+                                found,
+                                null)));
+    }
+
     // Buscar usuario por email (GET /api/v1/usuarios?email=...)
     public Mono<ServerResponse> getUserByEmail(String email) {
         if (email == null || email.isBlank()) {
@@ -0,0 +1,39 @@
+package co.com.crediya.api;
+
+import co.com.crediya.api.dto.JwtSigningProperties;
+import co.com.crediya.api.security.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Autenticación", description = "Endpoints para autenticación y emisión de tokens JWT")
+public class JwksController {
+
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+
+    private final JwtKeyRing keyRing;
+    private final JwtSigningProperties signingProperties;
+
+    @Operation(
+            summary = "Llaves públicas de firma (JWKS)",
+            description = """
+                    Llaves públicas ES256 con las que los servicios consumidores validan localmente los tokens.
+                    Vacío cuando la firma es HS256.
+                    """
+    )
+    @GetMapping(value = JWKS_PATH, produces = "application/jwk-set+json")
+    public Mono<ResponseEntity<Map<String, Object>>> jwks() {
+        return Mono.just(ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(signingProperties.jwksMaxAge()).cachePublic())
+                .body(keyRing.jwks()));
+    }
+}
@@ -2,8 +2,10 @@ package co.com.crediya.api;
 
 import co.com.crediya.api.dto.CreateUserRequest;
 import co.com.crediya.api.dto.EditUserRequest;
+import co.com.crediya.api.dto.UserLookupRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -50,6 +52,71 @@ public class RouterRest {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = API_V1_USUARIOS + "/bulk",
+                    method = RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "importUsers",
+                    operation = @Operation(
+                            operationId = "importUsers",
+                            summary = "Importación masiva de usuarios",
+                            description = """
+                                    Recibe un arreglo JSON o NDJSON de usuarios y responde en streaming (NDJSON)
+                                    un resultado por fila, en el mismo orden: CREATED, DUPLICATE o INVALID.
+                                    """,
+                            tags = {"Usuarios"},
+                            requestBody = @RequestBody(
+                                    description = "Usuarios a crear",
+                                    required = true,
+                                    content = {
+                                            @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    array = @ArraySchema(schema = @Schema(implementation = CreateUserRequest.class))
+                                            ),
+                                            @Content(
+                                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                    schema = @Schema(implementation = CreateUserRequest.class)
+                                            )
+                                    }
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Resultado por fila",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                    schema = @Schema(implementation = co.com.crediya.api.dto.UserImportResponse.class)
+                                            )),
+                                    @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = API_V1_USUARIOS + "/lookup",
+                    method = RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "lookupUsers",
+                    operation = @Operation(
+                            operationId = "lookupUsers",
+                            summary = "Buscar varios usuarios por email o id",
+                            description = """
+                                    Resuelve hasta 500 emails y/o ids en una sola consulta. Los que no existen
+                                    se omiten. Con Accept: application/x-ndjson la respuesta se envía en streaming.
+                                    """,
+                            tags = {"Usuarios"},
+                            requestBody = @RequestBody(
+                                    description = "Emails y/o ids a resolver",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            schema = @Schema(implementation = UserLookupRequest.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Usuarios encontrados"),
+                                    @ApiResponse(responseCode = "400", description = "Demasiadas llaves o formato inválido"),
+                                    @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = API_V1_USUARIOS,
                     method = RequestMethod.GET,
@@ -57,10 +124,30 @@ public class RouterRest {
                     beanMethod = "getAllUsers",
                     operation = @Operation(
                             operationId = "getAllUsers",
-                            summary = "Obtener todos los usuarios",
+                            summary = "Obtener usuarios paginados",
+                            description = """
+                                    Paginación por cursor (keyset sobre id). Si hay más resultados se devuelven
+                                    los headers X-Next-Cursor y Link (rel="next"). Con Accept: application/x-ndjson
+                                    se exportan todos los usuarios en streaming, uno por línea.
+                                    """,
                             tags = {"Usuarios"},
+                            parameters = {
+                                    @io.swagger.v3.oas.annotations.Parameter(
+                                            name = "cursor",
+                                            description = "Id del último usuario de la página anterior",
+                                            in = ParameterIn.QUERY,
+                                            schema = @Schema(type = "string", format = "uuid")
+                                    ),
+                                    @io.swagger.v3.oas.annotations.Parameter(
+                                            name = "size",
+                                            description = "Tamaño de página (1-500, por defecto 50)",
+                                            in = ParameterIn.QUERY,
+                                            schema = @Schema(type = "integer")
+                                    )
+                            },
                             responses = {
-                                    @ApiResponse(responseCode = "200", description = "Lista de usuarios obtenida exitosamente"),
+                                    @ApiResponse(responseCode = "200", description = "Página de usuarios obtenida exitosamente"),
+                                    @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválido"),
                                     @ApiResponse(responseCode = "500", description = "Error interno del servidor")
                             }
                     )
@@ -189,13 +276,23 @@ public class RouterRest {
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
         final String USERS = API_V1_USUARIOS;
 
-        return RouterFunctions.route(POST(USERS).and(accept(MediaType.APPLICATION_JSON)),
+        return RouterFunctions.route(POST(USERS + "/bulk"),
+                        request -> handler.importUsers(request.bodyToFlux(CreateUserRequest.class)))
+                .andRoute(POST(USERS + "/lookup"),
+                        request -> request.bodyToMono(UserLookupRequest.class)
+                                .flatMap(body -> handler.lookupUsers(body,
+                                        request.headers().accept().contains(MediaType.APPLICATION_NDJSON))))
+                .andRoute(POST(USERS).and(accept(MediaType.APPLICATION_JSON)),
                 request -> request.bodyToMono(CreateUserRequest.class)
                         .flatMap(handler::createUser))
                 .andRoute(GET(USERS).and(queryParam("email", email -> true)),
                         request -> handler.getUserByEmail(request.queryParam("email").orElse("")))
+                .andRoute(GET(USERS).and(headers(h -> h.accept().contains(MediaType.APPLICATION_NDJSON))),
+                        request -> handler.streamUsers())
                 .andRoute(GET(USERS),
-                        request -> handler.getAllUsers())
+                        request -> handler.getAllUsers(
+                                request.queryParam("cursor").orElse(null),
+                                request.queryParam("size").orElse(null)))
                 .andRoute(PUT(USERS + "/{id}").and(accept(MediaType.APPLICATION_JSON)),
                         request -> request.bodyToMono(EditUserRequest.class)
                                 .flatMap(body -> handler.updateUser(request.pathVariable("id"), body)))
@@ -1,41 +1,40 @@
 package co.com.crediya.api.config;
 
+import co.com.crediya.api.JwksController;
 import co.com.crediya.api.dto.GeneralResponse;
-import co.com.crediya.api.security.JwtService;
+import co.com.crediya.api.security.BearerTokenServerAuthenticationConverter;
+import co.com.crediya.api.security.JwtReactiveAuthenticationManager;
 import co.com.crediya.model.user.enums.RolName;
-import io.jsonwebtoken.Claims;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
-import org.springframework.security.authentication.AbstractAuthenticationToken;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http, JwtService jwtService) {
+    SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http,
+                                                  JwtReactiveAuthenticationManager authenticationManager,
+                                                  BearerTokenServerAuthenticationConverter bearerConverter) {
         return http
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
                 .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                // API stateless: no se consulta ni se guarda el contexto en la WebSession
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
 
                 .authorizeExchange(reg -> reg
-                        .pathMatchers("/api/v1/login").permitAll()
+                        .pathMatchers("/api/v1/login", "/api/v1/token/refresh").permitAll()
+                        .pathMatchers(HttpMethod.GET, JwksController.JWKS_PATH).permitAll()
                         .pathMatchers(
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
@@ -60,45 +59,21 @@ public class SecurityConfig {
                                 writeJson(exchange, HttpStatus.FORBIDDEN, "Acceso denegado"))
                 )
 
-
-                // Filtro simple para validar Bearer y poblar Authentication
-                .addFilterAt((exchange, chain) -> bearerToAuth(exchange)
-                                .flatMap(token -> authenticate(token, jwtService))
-                                .flatMap(auth -> chain.filter(exchange)
-                                        .contextWrite(ctx -> org.springframework.security.core.context.ReactiveSecurityContextHolder.withAuthentication(auth)))
-                                .switchIfEmpty(chain.filter(exchange))
-                        , SecurityWebFiltersOrder.AUTHENTICATION)
+                .addFilterAt(jwtAuthenticationFilter(authenticationManager, bearerConverter),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
 
                 .build();
     }
 
-    private Mono<String> bearerToAuth(ServerWebExchange exchange) {
-        String auth = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-        if (auth == null || !auth.startsWith("Bearer ")) {
-            return Mono.empty();
-        }
-        return Mono.just(auth.substring(7));
-    }
-
-    private Mono<AbstractAuthenticationToken> authenticate(String token, JwtService jwtService) {
-        try {
-            var jws = jwtService.parseAndValidate(token);
-            Claims claims = jws.getBody();
-            String rol = claims.get("rol", String.class);
-            var authorities = rol == null ? List.of() : List.of(new SimpleGrantedAuthority("ROLE_" + rol));
-
-            var details = Map.copyOf(claims);
-
-            var auth = new AbstractAuthenticationToken((Collection<? extends GrantedAuthority>) authorities) {
-                @Override public Object getCredentials() { return token; }
-                @Override public Object getPrincipal() { return claims.get("email"); }
-            };
-            auth.setAuthenticated(true);
-            auth.setDetails(details);
-            return Mono.just(auth);
-        } catch (Exception e) {
-            return Mono.error(new BadCredentialsException("Invalid JWT", e));
-        }
+    // Único camino Bearer -> Authentication: converter extrae el token y el manager lo valida
+    private AuthenticationWebFilter jwtAuthenticationFilter(JwtReactiveAuthenticationManager authenticationManager,
+                                                            BearerTokenServerAuthenticationConverter bearerConverter) {
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(authenticationManager);
+        filter.setServerAuthenticationConverter(bearerConverter);
+        filter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        filter.setAuthenticationFailureHandler((webFilterExchange, e) ->
+                writeJson(webFilterExchange.getExchange(), HttpStatus.UNAUTHORIZED, "Token inválido"));
+        return filter;
     }
 
     private Mono<Void> writeJson(ServerWebExchange exchange, HttpStatus status, String message) {
@@ -115,4 +90,4 @@ public class SecurityConfig {
             return Mono.error(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package co.com.crediya.api.dto;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "security.jwt.cache")
+public record JwtCacheProperties(
+        Long maxSize,
+        Duration ttl
+) {
+    public JwtCacheProperties {
+        if (maxSize == null || maxSize < 1) {
+            maxSize = 10_000L;
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = Duration.ofMinutes(3);
+        }
+    }
+}
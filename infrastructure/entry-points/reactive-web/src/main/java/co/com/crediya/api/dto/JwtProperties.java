@@ -7,5 +7,21 @@ public record JwtProperties(
         String issuer,
         String audience,
         String secret,
-        Integer expirationMinutes
-) {}
\ No newline at end of file
+        Integer expirationMinutes,
+        ClaimProfile claimProfile
+) {
+    public JwtProperties {
+        if (claimProfile == null) {
+            claimProfile = ClaimProfile.MINIMAL;
+        }
+    }
+
+    /**
+     * MINIMAL: sub, uid, rol y exp (más iss/aud), lo que necesita la autorización.
+     * EXTENDED: agrega datos del perfil para consumidores que aún los leen del token.
+     */
+    public enum ClaimProfile {
+        MINIMAL,
+        EXTENDED
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.crediya.api.dto;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Firma de tokens. Con ES256 la llave activa firma (header kid) y todas las llaves listadas se
+ * publican en el JWKS, así una llave retirada sigue verificando hasta que se quite de la lista.
+ */
+@ConfigurationProperties(prefix = "security.jwt.signing")
+public record JwtSigningProperties(
+        Algorithm algorithm,
+        String activeKeyId,
+        List<KeyPair> keys,
+        Duration jwksMaxAge
+) {
+    public JwtSigningProperties {
+        if (algorithm == null) {
+            algorithm = Algorithm.HS256;
+        }
+        if (activeKeyId != null && activeKeyId.isBlank()) {
+            activeKeyId = null;
+        }
+        if (keys == null) {
+            keys = List.of();
+        }
+        if (jwksMaxAge == null) {
+            jwksMaxAge = Duration.ofHours(1);
+        }
+    }
+
+    public enum Algorithm {
+        HS256,
+        ES256
+    }
+
+    /**
+     * Llaves P-256 en DER codificado en base64 (se aceptan encabezados PEM): privada PKCS#8 y
+     * pública X.509. Una llave solo de verificación puede omitir la privada.
+     */
+    public record KeyPair(
+            String kid,
+            String privateKey,
+            String publicKey
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.crediya.api.dto;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "security.password-hashing")
+public record PasswordHashingProperties(
+        Integer poolSize,
+        Integer queueCapacity
+) {
+    public PasswordHashingProperties {
+        if (poolSize == null || poolSize < 1) {
+            poolSize = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity == null || queueCapacity < 1) {
+            queueCapacity = poolSize * 16;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package co.com.crediya.api.dto;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "security.jwt.refresh-token")
+public record RefreshTokenProperties(
+        Duration ttl,
+        Duration purgeGrace,
+        Duration purgeInterval
+) {
+    public RefreshTokenProperties {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = Duration.ofDays(7);
+        }
+        if (purgeGrace == null || purgeGrace.isNegative()) {
+            purgeGrace = Duration.ofDays(1);
+        }
+        if (purgeInterval == null || purgeInterval.isNegative() || purgeInterval.isZero()) {
+            purgeInterval = Duration.ofHours(1);
+        }
+    }
+}
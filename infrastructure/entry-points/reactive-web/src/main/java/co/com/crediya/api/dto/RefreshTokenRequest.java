@@ -0,0 +1,9 @@
+package co.com.crediya.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank(message = "El refresh token es obligatorio")
+        String refreshToken
+) {
+}
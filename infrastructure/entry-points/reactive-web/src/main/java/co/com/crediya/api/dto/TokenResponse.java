@@ -3,6 +3,7 @@ package co.com.crediya.api.dto;
 public record TokenResponse(
         String token,
         long   expiresIn,
-        String tokenType
+        String tokenType,
+        String refreshToken
 ) {
 }
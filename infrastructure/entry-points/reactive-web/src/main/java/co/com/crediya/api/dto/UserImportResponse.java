@@ -0,0 +1,10 @@
+package co.com.crediya.api.dto;
+
+public record UserImportResponse(
+        long line,
+        String email,
+        String status,
+        String id,
+        String error
+) {
+}
@@ -0,0 +1,9 @@
+package co.com.crediya.api.dto;
+
+import java.util.List;
+
+public record UserLookupRequest(
+        List<String> emails,
+        List<String> ids
+) {
+}
@@ -2,10 +2,12 @@ package co.com.crediya.api.mapper;
 
 import co.com.crediya.api.dto.CreateUserRequest;
 import co.com.crediya.api.dto.EditUserRequest;
+import co.com.crediya.api.dto.UserImportResponse;
 import co.com.crediya.api.dto.UserResponse;
 import co.com.crediya.model.user.User;
 import co.com.crediya.model.user.valueobjects.CreateUserCommand;
 import co.com.crediya.model.user.valueobjects.EditUserCommand;
+import co.com.crediya.model.user.valueobjects.UserImportResult;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -25,4 +27,6 @@ public interface UserMapper {
     @Mapping(target = "baseSalary", expression = "java(user.getBaseSalary().amount())")
     @Mapping(target = "birthday",   expression = "java(user.getBirthday().value())")
     UserResponse toResponse(User user);
-}
\ No newline at end of file
+
+    UserImportResponse toResponse(UserImportResult result);
+}
@@ -2,7 +2,6 @@ package co.com.crediya.api.security;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -25,6 +24,6 @@ public class BearerTokenServerAuthenticationConverter implements ServerAuthentic
             return Mono.empty();
         }
 
-        return Mono.just(new UsernamePasswordAuthenticationToken(token, token));
+        return Mono.just(JwtAuthenticationToken.unauthenticated(token));
     }
 }
\ No newline at end of file
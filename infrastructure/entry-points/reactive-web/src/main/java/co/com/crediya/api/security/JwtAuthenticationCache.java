@@ -0,0 +1,81 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.JwtCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Cache de tokens ya validados. La llave es el SHA-256 del token (nunca el token en claro)
+ * y cada entrada vence con el menor valor entre el TTL configurado y el {@code exp} del token.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private static final String CACHE_NAME = "jwt.authentication";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    });
+
+    private final Cache<ByteBuffer, ValidatedToken> cache;
+
+    public JwtAuthenticationCache(JwtCacheProperties props, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(props.maxSize())
+                .expireAfter(new TokenExpiry(props.ttl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Devuelve la autenticación cacheada o la calcula con {@code validator}.
+     * Si el validador lanza excepción no se guarda nada.
+     */
+    public Authentication get(String token, Function<String, ValidatedToken> validator) {
+        return cache.get(digest(token), k -> validator.apply(token)).authentication();
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest md = SHA_256.get();
+        return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    public record ValidatedToken(Authentication authentication, Instant expiresAt) {}
+
+    private record TokenExpiry(Duration ttl) implements Expiry<ByteBuffer, ValidatedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, ValidatedToken value, long currentTime) {
+            long untilExp = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(0L, Math.min(ttl.toNanos(), untilExp));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, ValidatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, ValidatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package co.com.crediya.api.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authentication liviana e inmutable para JWT. No copia las autoridades ni los claims: las
+ * autoridades son las listas compartidas de {@link RoleAuthorities} y los detalles son una vista
+ * de solo lectura sobre los claims. Al ser inmutable la misma instancia se comparte entre
+ * peticiones desde {@link JwtAuthenticationCache}.
+ */
+public final class JwtAuthenticationToken implements Authentication {
+
+    private final String token;
+    private final transient Claims claims;
+    private final List<GrantedAuthority> authorities;
+    private final boolean authenticated;
+    private final transient Map<String, Object> details;
+
+    private JwtAuthenticationToken(String token, Claims claims, List<GrantedAuthority> authorities) {
+        this.token = token;
+        this.claims = claims;
+        this.authorities = authorities;
+        this.authenticated = claims != null;
+        this.details = claims == null ? null : Collections.unmodifiableMap(claims);
+    }
+
+    public static JwtAuthenticationToken unauthenticated(String token) {
+        return new JwtAuthenticationToken(token, null, List.of());
+    }
+
+    public static JwtAuthenticationToken authenticated(String token, Claims claims, List<GrantedAuthority> authorities) {
+        return new JwtAuthenticationToken(token, claims, authorities);
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getCredentials() {
+        return token;
+    }
+
+    @Override
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return claims == null ? null : claims.getSubject();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        // Cambiar el estado de una instancia compartida afectaría a las demás peticiones con el mismo token
+        throw new IllegalArgumentException("JwtAuthenticationToken es inmutable: use unauthenticated(...) o authenticated(...)");
+    }
+
+    @Override
+    public String getName() {
+        Object principal = getPrincipal();
+        return principal == null ? "" : principal.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthenticationToken[principal=" + getName() + ", authorities=" + authorities
+                + ", authenticated=" + authenticated + "]";
+    }
+}
@@ -0,0 +1,176 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.JwtProperties;
+import co.com.crediya.api.dto.JwtSigningProperties;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Llaves de firma y verificación de tokens. En HS256 usa el secreto compartido; en ES256 firma
+ * con la llave activa y resuelve la de verificación por el kid del header.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String CURVE = "secp256r1";
+    private static final int COORDINATE_BYTES = 32;
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKeyId;
+    private final Key signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final Map<String, Object> jwks;
+
+    public JwtKeyRing(JwtProperties jwtProperties, JwtSigningProperties signing) {
+        if (signing.algorithm() == JwtSigningProperties.Algorithm.HS256) {
+            this.algorithm = SignatureAlgorithm.HS256;
+            this.activeKeyId = null;
+            this.signingKey = Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
+            this.verificationKeys = Map.of();
+            this.jwks = Map.of("keys", List.of());
+            return;
+        }
+
+        this.algorithm = SignatureAlgorithm.ES256;
+        List<JwtSigningProperties.KeyPair> configured = signing.keys();
+        if (configured.isEmpty()) {
+            configured = List.of(generateEphemeral());
+            log.warn("No hay llaves ES256 configuradas; se generó una llave efímera ({}). "
+                    + "Los tokens no sobreviven un reinicio ni se validan entre instancias", configured.get(0).kid());
+        }
+
+        Map<String, Key> publicKeys = new LinkedHashMap<>();
+        Map<String, PrivateKey> privateKeys = new LinkedHashMap<>();
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        for (JwtSigningProperties.KeyPair pair : configured) {
+            ECPublicKey publicKey = (ECPublicKey) decodePublic(pair.publicKey());
+            publicKeys.put(pair.kid(), publicKey);
+            if (pair.privateKey() != null && !pair.privateKey().isBlank()) {
+                privateKeys.put(pair.kid(), decodePrivate(pair.privateKey()));
+            }
+            jwkList.add(toJwk(pair.kid(), publicKey));
+        }
+
+        this.activeKeyId = signing.activeKeyId() != null ? signing.activeKeyId() : configured.get(0).kid();
+        this.signingKey = privateKeys.get(activeKeyId);
+        if (signingKey == null) {
+            throw new IllegalStateException("No hay llave privada para el kid activo: " + activeKeyId);
+        }
+        this.verificationKeys = Map.copyOf(publicKeys);
+        this.jwks = Map.of("keys", List.copyOf(jwkList));
+        log.info("Firma ES256 activa con kid={}, llaves publicadas={}", activeKeyId, publicKeys.keySet());
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    // null en HS256: no se envía kid
+    public String activeKeyId() {
+        return activeKeyId;
+    }
+
+    public Key signingKey() {
+        return signingKey;
+    }
+
+    public Key verificationKey(String kid) {
+        if (algorithm == SignatureAlgorithm.HS256) {
+            return signingKey;
+        }
+        Key key = kid == null ? null : verificationKeys.get(kid);
+        if (key == null) {
+            throw new MalformedJwtException("kid desconocido: " + kid);
+        }
+        return key;
+    }
+
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    private static Map<String, Object> toJwk(String kid, ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    // RFC 7518 §6.2.1.2: coordenada sin signo, rellenada a la longitud de la curva
+    private static String coordinate(BigInteger value) {
+        byte[] raw = value.toByteArray();
+        byte[] fixed = new byte[COORDINATE_BYTES];
+        int length = Math.min(raw.length, COORDINATE_BYTES);
+        System.arraycopy(raw, raw.length - length, fixed, COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static JwtSigningProperties.KeyPair generateEphemeral() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec(CURVE));
+            java.security.KeyPair pair = generator.generateKeyPair();
+            Base64.Encoder encoder = Base64.getEncoder();
+            return new JwtSigningProperties.KeyPair(
+                    "ephemeral-" + UUID.randomUUID().toString().substring(0, 8),
+                    encoder.encodeToString(pair.getPrivate().getEncoded()),
+                    encoder.encodeToString(pair.getPublic().getEncoded()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No fue posible generar la llave ES256", e);
+        }
+    }
+
+    private static PublicKey decodePublic(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(der(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Llave pública ES256 inválida", e);
+        }
+    }
+
+    private static PrivateKey decodePrivate(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(der(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Llave privada ES256 inválida", e);
+        }
+    }
+
+    private static byte[] der(String encoded) {
+        String base64 = Arrays.stream(encoded.split("\\R"))
+                .filter(line -> !line.startsWith("-----"))
+                .reduce("", String::concat)
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -4,61 +4,68 @@ import co.com.crediya.api.dto.JwtProperties;
 import co.com.crediya.model.user.User;
 import co.com.crediya.model.user.enums.RolName;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
 
 @Component
 public class JwtService {
 
     private final JwtProperties props;
-    private final SecretKey key;
+    private final JwtKeyRing keyRing;
+    // DefaultJwtParser es inmutable y thread-safe: se construye una vez por configuración
+    private final JwtParser parser;
 
-    public JwtService(JwtProperties props) {
+    public JwtService(JwtProperties props, JwtKeyRing keyRing) {
         this.props = props;
-        this.key = Keys.hmacShaKeyFor(props.secret().getBytes(StandardCharsets.UTF_8));
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .requireIssuer(props.issuer())
+                .requireAudience(props.audience())
+                .build();
     }
 
     public String generateToken(User user) {
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(props.expirationMinutes() * 60L);
-        Optional<RolName> rolName = RolName.fromId(user.getRol());
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("uid", user.getId());
-        claims.put("name", user.getName());
-        claims.put("lastName", user.getLastName());
-        claims.put("email", user.getEmail());
-        claims.put("baseSalary", user.getBaseSalary() != null ? user.getBaseSalary() : null);
-        claims.put("identification", user.getIdentification());
-        claims.put("rol", rolName.get().name());
+        RolName rolName = RolName.fromId(user.getRol())
+                .orElseThrow(() -> new IllegalStateException("Usuario sin rol válido: " + user.getId()));
 
-        return Jwts.builder()
-                .setClaims(claims)
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(user.getEmail().value())
+                .claim("uid", user.getId())
+                .claim("rol", rolName.name())
                 .setIssuer(props.issuer())
                 .setAudience(props.audience())
-                .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(exp))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(Date.from(exp));
+
+        if (props.claimProfile() == JwtProperties.ClaimProfile.EXTENDED) {
+            builder.claim("name", user.getName())
+                    .claim("lastName", user.getLastName())
+                    .claim("email", user.getEmail().value())
+                    .claim("baseSalary", user.getBaseSalary() != null ? user.getBaseSalary().amount() : null)
+                    .claim("identification", user.getIdentification())
+                    .setIssuedAt(Date.from(now));
+        }
+
+        if (keyRing.activeKeyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.activeKeyId());
+        }
+        return builder.signWith(keyRing.signingKey(), keyRing.algorithm()).compact();
     }
 
     public Jws<Claims> parseAndValidate(String jwt) throws JwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .requireIssuer(props.issuer())
-                .requireAudience(props.audience())
-                .build()
-                .parseClaimsJws(jwt);
+        return parser.parseClaimsJws(jwt);
     }
 
     public static LocalDate getLocalDateClaim(Claims c, String name) {
@@ -3,12 +3,14 @@ package co.com.crediya.api.security;
 import co.com.crediya.model.user.gateways.PasswordEncodePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
 public class PasswordEncoderAdapter implements PasswordEncodePort {
 
     private final org.springframework.security.crypto.password.PasswordEncoder delegate;
+    private final PasswordHashingScheduler hashingScheduler;
 
     @Override
     public String encode(String raw) {
@@ -19,4 +21,14 @@ public class PasswordEncoderAdapter implements PasswordEncodePort {
     public boolean matches(String raw, String encoded) {
         return delegate.matches(raw, encoded);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<String> encodeAsync(String raw) {
+        return hashingScheduler.submit(() -> delegate.encode(raw));
+    }
+
+    @Override
+    public Mono<Boolean> matchesAsync(String raw, String encoded) {
+        return hashingScheduler.submit(() -> delegate.matches(raw, encoded));
+    }
+}
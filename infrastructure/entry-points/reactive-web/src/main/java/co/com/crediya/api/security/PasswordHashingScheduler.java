@@ -0,0 +1,81 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.PasswordHashingProperties;
+import co.com.crediya.model.user.exceptions.HashingCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool acotado para operaciones BCrypt. Saca el hashing del event loop de Netty y
+ * rechaza de inmediato cuando la cola está llena en lugar de acumular latencia.
+ */
+@Slf4j
+@Component
+public class PasswordHashingScheduler implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "auth.password.hashing";
+    private static final String SATURATED_MSG = "Servicio de autenticación saturado, intente nuevamente";
+
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingScheduler(PasswordHashingProperties props, MeterRegistry meterRegistry) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(
+                props.poolSize(),
+                props.poolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.queueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.scheduler = Schedulers.fromExecutorService(executor, "password-hashing");
+
+        this.hashTimer = Timer.builder(METRIC_PREFIX + ".latency")
+                .description("Tiempo de CPU de cada operación BCrypt")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Operaciones rechazadas por pool de hashing saturado")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, e -> e.getQueue().size())
+                .description("Operaciones BCrypt en espera")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hilos de hashing ocupados")
+                .register(meterRegistry);
+
+        log.info("Pool de hashing iniciado: hilos={}, cola={}", props.poolSize(), props.queueCapacity());
+    }
+
+    public <T> Mono<T> submit(Callable<T> task) {
+        return Mono.fromCallable(() -> hashTimer.recordCallable(task))
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> {
+                    rejectedCounter.increment();
+                    return new HashingCapacityExceededException(SATURATED_MSG, e);
+                });
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,51 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.RefreshTokenProperties;
+import co.com.crediya.usecase.refreshtoken.RefreshTokenUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Borra periódicamente los refresh tokens vencidos hace más de {@code purge-grace}. Cada
+ * refresh deja una fila revocada; sin esta purga la tabla crece sin límite. La sentencia es
+ * idempotente, así que varias instancias pueden ejecutarla a la vez.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob implements InitializingBean, DisposableBean {
+
+    private final RefreshTokenUseCase refreshTokenUseCase;
+    private final RefreshTokenProperties properties;
+    private Disposable schedule;
+
+    @Override
+    public void afterPropertiesSet() {
+        // La primera purga espera un intervalo completo para no competir con el arranque
+        schedule = Flux.interval(properties.purgeInterval(), properties.purgeInterval())
+                .concatMap(tick -> purge())
+                .subscribe();
+    }
+
+    public Mono<Long> purge() {
+        return refreshTokenUseCase.purgeExpired(properties.purgeGrace())
+                .doOnNext(deleted -> log.info("Purga de refresh tokens vencidos: {} filas borradas", deleted))
+                .onErrorResume(e -> {
+                    log.warn("Falló la purga de refresh tokens vencidos: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+}
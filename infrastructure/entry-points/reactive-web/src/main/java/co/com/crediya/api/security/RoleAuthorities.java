@@ -0,0 +1,37 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.model.user.enums.RolName;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Autoridades precalculadas por rol: cada petición reutiliza la misma lista inmutable
+ * en lugar de crear un {@link SimpleGrantedAuthority} nuevo.
+ */
+public final class RoleAuthorities {
+
+    private static final Map<String, List<GrantedAuthority>> BY_ROL =
+            Arrays.stream(RolName.values()).collect(Collectors.toUnmodifiableMap(
+                    Enum::name,
+                    rol -> List.of(new SimpleGrantedAuthority("ROLE_" + rol.name()))));
+
+    private RoleAuthorities() {}
+
+    public static List<GrantedAuthority> of(String rol) {
+        if (rol == null) {
+            return List.of();
+        }
+        List<GrantedAuthority> authorities = BY_ROL.get(rol);
+        if (authorities != null) {
+            return authorities;
+        }
+        return RolName.fromRol(rol)
+                .map(r -> BY_ROL.get(r.name()))
+                .orElse(List.of());
+    }
+}
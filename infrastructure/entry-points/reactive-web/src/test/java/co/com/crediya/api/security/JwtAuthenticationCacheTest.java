@@ -0,0 +1,84 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.JwtCacheProperties;
+import co.com.crediya.api.security.JwtAuthenticationCache.ValidatedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtAuthenticationCache Tests")
+class JwtAuthenticationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new JwtAuthenticationCache(new JwtCacheProperties(100L, Duration.ofMinutes(3)), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("shouldValidateTokenOnlyOnceWhileNotExpired")
+    void shouldValidateTokenOnlyOnceWhileNotExpired() {
+        AtomicInteger validations = new AtomicInteger();
+        Authentication auth = new TestingAuthenticationToken("user", "token");
+
+        Authentication first = cache.get("token-a", t -> {
+            validations.incrementAndGet();
+            return new ValidatedToken(auth, Instant.now().plusSeconds(60));
+        });
+        Authentication second = cache.get("token-a", t -> {
+            validations.incrementAndGet();
+            return new ValidatedToken(auth, Instant.now().plusSeconds(60));
+        });
+
+        assertThat(first).isSameAs(auth);
+        assertThat(second).isSameAs(auth);
+        assertThat(validations).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("shouldNotReuseEntryOfAlreadyExpiredToken")
+    void shouldNotReuseEntryOfAlreadyExpiredToken() {
+        AtomicInteger validations = new AtomicInteger();
+        Authentication auth = new TestingAuthenticationToken("user", "token");
+
+        cache.get("token-b", t -> {
+            validations.incrementAndGet();
+            return new ValidatedToken(auth, Instant.now().minusSeconds(1));
+        });
+        cache.get("token-b", t -> {
+            validations.incrementAndGet();
+            return new ValidatedToken(auth, Instant.now().minusSeconds(1));
+        });
+
+        assertThat(validations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("shouldNotCacheInvalidTokens")
+    void shouldNotCacheInvalidTokens() {
+        AtomicInteger validations = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.get("bad", t -> {
+                validations.incrementAndGet();
+                throw new IllegalArgumentException("firma inválida");
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(validations).hasValue(2);
+    }
+}
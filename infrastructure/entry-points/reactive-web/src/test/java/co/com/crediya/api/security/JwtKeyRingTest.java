@@ -0,0 +1,140 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.JwtProperties;
+import co.com.crediya.api.dto.JwtSigningProperties;
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.enums.RolName;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtKeyRing Tests")
+class JwtKeyRingTest {
+
+    private final JwtProperties props = new JwtProperties(
+            "crediya-auth", "crediya-services", "test-secret-test-secret-test-secret-test", 3,
+            JwtProperties.ClaimProfile.MINIMAL);
+
+    @Test
+    @DisplayName("shouldSignWithKidAndVerifyWithEs256")
+    void shouldSignWithKidAndVerifyWithEs256() throws Exception {
+        JwtSigningProperties.KeyPair key = keyPair("k1");
+        JwtService jwtService = jwtService(signing("k1", List.of(key)));
+
+        String token = jwtService.generateToken(user());
+
+        var jws = jwtService.parseAndValidate(token);
+        assertThat(jws.getHeader().getKeyId()).isEqualTo("k1");
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo(SignatureAlgorithm.ES256.getValue());
+        assertThat(jws.getBody().getSubject()).isEqualTo("juan.perez@example.com");
+    }
+
+    @Test
+    @DisplayName("shouldVerifyTokensFromRetiredKeyAfterRotation")
+    void shouldVerifyTokensFromRetiredKeyAfterRotation() throws Exception {
+        JwtSigningProperties.KeyPair oldKey = keyPair("old");
+        JwtSigningProperties.KeyPair newKey = keyPair("new");
+        String oldToken = jwtService(signing("old", List.of(oldKey))).generateToken(user());
+
+        var retired = new JwtSigningProperties.KeyPair("old", null, oldKey.publicKey());
+        JwtService rotated = jwtService(signing("new", List.of(newKey, retired)));
+
+        assertThat(rotated.parseAndValidate(oldToken).getHeader().getKeyId()).isEqualTo("old");
+        assertThat(rotated.parseAndValidate(rotated.generateToken(user())).getHeader().getKeyId()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("shouldRejectTokenWithUnknownKid")
+    void shouldRejectTokenWithUnknownKid() throws Exception {
+        String token = jwtService(signing("other", List.of(keyPair("other")))).generateToken(user());
+        JwtService jwtService = jwtService(signing("k1", List.of(keyPair("k1"))));
+
+        assertThatThrownBy(() -> jwtService.parseAndValidate(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("shouldPublishPublicKeysAsJwks")
+    @SuppressWarnings("unchecked")
+    void shouldPublishPublicKeysAsJwks() throws Exception {
+        JwtKeyRing ring = new JwtKeyRing(props, signing("k1", List.of(keyPair("k1"), keyPair("k2"))));
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) ring.jwks().get("keys");
+
+        assertThat(keys).extracting(k -> k.get("kid")).containsExactly("k1", "k2");
+        assertThat(keys).allSatisfy(k -> {
+            assertThat(k).containsEntry("kty", "EC").containsEntry("crv", "P-256").containsEntry("alg", "ES256");
+            assertThat(k).doesNotContainKey("d");
+            assertThat(Base64.getUrlDecoder().decode((String) k.get("x"))).hasSize(32);
+            assertThat(Base64.getUrlDecoder().decode((String) k.get("y"))).hasSize(32);
+        });
+    }
+
+    @Test
+    @DisplayName("shouldGenerateEphemeralKeyWhenNoneConfigured")
+    void shouldGenerateEphemeralKeyWhenNoneConfigured() {
+        JwtKeyRing ring = new JwtKeyRing(props, signing(null, List.of()));
+
+        assertThat(ring.algorithm()).isEqualTo(SignatureAlgorithm.ES256);
+        assertThat(ring.activeKeyId()).startsWith("ephemeral-");
+        assertThat((List<?>) ring.jwks().get("keys")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("shouldKeepHs256WithoutKidByDefault")
+    void shouldKeepHs256WithoutKidByDefault() {
+        JwtService jwtService = jwtService(new JwtSigningProperties(null, null, null, null));
+
+        var jws = jwtService.parseAndValidate(jwtService.generateToken(user()));
+
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo(SignatureAlgorithm.HS256.getValue());
+        assertThat(jws.getHeader().getKeyId()).isNull();
+    }
+
+    private JwtService jwtService(JwtSigningProperties signing) {
+        return new JwtService(props, new JwtKeyRing(props, signing));
+    }
+
+    private static JwtSigningProperties signing(String activeKeyId, List<JwtSigningProperties.KeyPair> keys) {
+        return new JwtSigningProperties(JwtSigningProperties.Algorithm.ES256, activeKeyId, keys, null);
+    }
+
+    private static JwtSigningProperties.KeyPair keyPair(String kid) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        var pair = generator.generateKeyPair();
+        Base64.Encoder encoder = Base64.getEncoder();
+        return new JwtSigningProperties.KeyPair(kid,
+                encoder.encodeToString(pair.getPrivate().getEncoded()),
+                encoder.encodeToString(pair.getPublic().getEncoded()));
+    }
+
+    private static User user() {
+        return User.create(
+                UUID.fromString("7f1c6a0e-0d7e-4a43-9d55-3f3b0b7c2a11"),
+                "Juan",
+                "Pérez",
+                new Birthday(LocalDate.of(1990, 5, 15)),
+                "Calle 123 #45-67",
+                new Email("juan.perez@example.com"),
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "hash",
+                RolName.ADMIN.getId());
+    }
+}
@@ -0,0 +1,96 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.JwtCacheProperties;
+import co.com.crediya.api.dto.JwtProperties;
+import co.com.crediya.api.dto.JwtSigningProperties;
+import co.com.crediya.model.user.User;
+import co.com.crediya.model.user.enums.RolName;
+import co.com.crediya.model.user.valueobjects.Birthday;
+import co.com.crediya.model.user.valueobjects.Email;
+import co.com.crediya.model.user.valueobjects.Salary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtReactiveAuthenticationManager Tests")
+class JwtReactiveAuthenticationManagerTest {
+
+    private JwtService jwtService;
+    private JwtReactiveAuthenticationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        var props = new JwtProperties(
+                "crediya-auth", "crediya-services", "test-secret-test-secret-test-secret-test", 3,
+                JwtProperties.ClaimProfile.MINIMAL);
+        jwtService = new JwtService(props, new JwtKeyRing(props, new JwtSigningProperties(null, null, null, null)));
+        var cache = new JwtAuthenticationCache(
+                new JwtCacheProperties(100L, Duration.ofMinutes(3)), new SimpleMeterRegistry());
+        manager = new JwtReactiveAuthenticationManager(jwtService, cache);
+    }
+
+    @Test
+    @DisplayName("shouldAuthenticateValidTokenWithSharedRoleAuthorities")
+    void shouldAuthenticateValidTokenWithSharedRoleAuthorities() {
+        String token = jwtService.generateToken(user(RolName.ADMIN));
+
+        Authentication auth = manager.authenticate(JwtAuthenticationToken.unauthenticated(token)).block();
+
+        assertThat(auth).isNotNull();
+        assertThat(auth.isAuthenticated()).isTrue();
+        assertThat(auth.getPrincipal()).isEqualTo("juan.perez@example.com");
+        assertThat(auth.getAuthorities()).isSameAs(RoleAuthorities.of("ADMIN"));
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("shouldReturnSameAuthenticationForRepeatedToken")
+    void shouldReturnSameAuthenticationForRepeatedToken() {
+        String token = jwtService.generateToken(user(RolName.ASESOR));
+
+        Authentication first = manager.authenticate(JwtAuthenticationToken.unauthenticated(token)).block();
+        Authentication second = manager.authenticate(JwtAuthenticationToken.unauthenticated(token)).block();
+
+        assertThat(second).isSameAs(first);
+        // La instancia compartida no se puede invalidar desde una petición
+        assertThatThrownBy(() -> first.setAuthenticated(false)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getDetails()).isSameAs(first.getDetails());
+    }
+
+    @Test
+    @DisplayName("shouldRejectTamperedToken")
+    void shouldRejectTamperedToken() {
+        String token = jwtService.generateToken(user(RolName.USER)) + "x";
+
+        StepVerifier.create(manager.authenticate(JwtAuthenticationToken.unauthenticated(token)))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+    private static User user(RolName rol) {
+        return User.create(
+                UUID.randomUUID(),
+                "Juan",
+                "Pérez",
+                new Birthday(LocalDate.of(1990, 5, 15)),
+                "Calle 123 #45-67",
+                new Email("juan.perez@example.com"),
+                new Salary(new BigDecimal("3000000")),
+                "1234567890",
+                "hashed",
+                rol.getId());
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.crediya.api.security;
+
+import co.com.crediya.api.dto.PasswordHashingProperties;
+import co.com.crediya.model.user.exceptions.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PasswordHashingScheduler Tests")
+class PasswordHashingSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PasswordHashingScheduler(new PasswordHashingProperties(1, 1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("shouldRunTaskOnHashingThreadAndRecordLatency")
+    void shouldRunTaskOnHashingThreadAndRecordLatency() {
+        StepVerifier.create(scheduler.submit(() -> Thread.currentThread().getName()))
+                .assertNext(name -> assertThat(name).startsWith("password-hashing-"))
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("auth.password.hashing.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("shouldRejectWhenQueueIsFull")
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        scheduler.submit(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        scheduler.submit(() -> true).subscribe();
+
+        StepVerifier.create(scheduler.submit(() -> true))
+                .expectError(HashingCapacityExceededException.class)
+                .verify();
+
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hashing.queue.depth").gauge().value()).isEqualTo(1);
+        release.countDown();
+    }
+}